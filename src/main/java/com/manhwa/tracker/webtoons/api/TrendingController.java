@@ -1,20 +1,29 @@
 package com.manhwa.tracker.webtoons.api;
 
+import com.manhwa.tracker.webtoons.model.BoardSpec;
 import com.manhwa.tracker.webtoons.model.MetricType;
 import com.manhwa.tracker.webtoons.model.RankingWindow;
+import com.manhwa.tracker.webtoons.model.TrendingBoardDTO;
 import com.manhwa.tracker.webtoons.model.TrendingManhwaDTO;
 import com.manhwa.tracker.webtoons.model.TrendingRankingMode;
+import com.manhwa.tracker.webtoons.service.TrendingResponseCache;
 import com.manhwa.tracker.webtoons.service.TrendingService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api")
 public class TrendingController {
+    private static final int MAX_BOARDS = 24;
+
     private final TrendingService trendingService;
 
     public TrendingController(TrendingService trendingService) {
@@ -22,16 +31,46 @@ public class TrendingController {
     }
 
     @GetMapping("/trending")
-    public List<TrendingManhwaDTO> trending(
+    public ResponseEntity<List<TrendingManhwaDTO>> trending(
             @RequestParam(name = "metric", defaultValue = "VIEWS") MetricType metric,
             @RequestParam(name = "limit", defaultValue = "10") int limit,
             @RequestParam(name = "sourceId", required = false) Integer sourceId,
             @RequestParam(name = "mode", defaultValue = "RATE") TrendingRankingMode mode,
             @RequestParam(name = "window", defaultValue = "WEEKLY") RankingWindow window,
             @RequestParam(name = "genre", required = false) String genre,
-            @RequestParam(name = "minPreviousValue", required = false) Long minPreviousValue
+            @RequestParam(name = "minPreviousValue", required = false) Long minPreviousValue,
+            WebRequest request
     ) {
         int cappedLimit = Math.min(Math.max(limit, 1), 100);
-        return trendingService.getTrending(metric, sourceId, cappedLimit, mode, window, genre, minPreviousValue);
+        TrendingResponseCache.Entry entry = trendingService.getTrendingEntry(
+                metric,
+                sourceId,
+                cappedLimit,
+                mode,
+                window,
+                genre,
+                minPreviousValue
+        );
+        if (request.checkNotModified(entry.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(entry.etag())
+                .body(entry.items());
+    }
+
+    @PostMapping("/trending/batch")
+    public List<TrendingBoardDTO> trendingBatch(@RequestBody List<BoardSpec> boards) {
+        if (boards == null || boards.isEmpty()) {
+            throw new IllegalArgumentException("At least one board is required");
+        }
+        if (boards.size() > MAX_BOARDS) {
+            throw new IllegalArgumentException("At most " + MAX_BOARDS + " boards can be requested at once");
+        }
+        for (BoardSpec board : boards) {
+            int limit = board.getLimit() == null ? 10 : board.getLimit();
+            board.setLimit(Math.min(Math.max(limit, 1), 100));
+        }
+        return trendingService.getTrendingBoards(boards);
     }
 }
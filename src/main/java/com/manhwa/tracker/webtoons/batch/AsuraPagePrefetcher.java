@@ -0,0 +1,93 @@
+package com.manhwa.tracker.webtoons.batch;
+
+import jakarta.annotation.PreDestroy;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Fetches Asura series pages ahead of AsuraSeriesProcessor. The reader schedules the next
+// `prefetch-window` URLs as it hands out items; the processor then picks up the finished
+// document instead of fetching inline. All fetches share one RequestThrottle whose rate is
+// derived from request-delay-ms, so the request ceiling matches the sequential scrape.
+@Component
+public class AsuraPagePrefetcher {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, CompletableFuture<Document>> pending = new ConcurrentHashMap<>();
+    private final RequestThrottle throttle;
+    private final String userAgent;
+    private final int window;
+
+    public AsuraPagePrefetcher(
+            @Value("${app.asura.user-agent:Mozilla/5.0}") String userAgent,
+            @Value("${app.asura.request-delay-ms:200}") long requestDelayMs,
+            @Value("${app.asura.prefetch-window:8}") int window,
+            @Value("${app.asura.fetch-concurrency:4}") int concurrency
+    ) {
+        this.userAgent = userAgent;
+        this.window = Math.max(0, window);
+        double requestsPerSecond = requestDelayMs > 0 ? 1000d / requestDelayMs : 0d;
+        this.throttle = new RequestThrottle(concurrency, requestsPerSecond);
+    }
+
+    public boolean isEnabled() {
+        return window > 0;
+    }
+
+    public int window() {
+        return window;
+    }
+
+    public void prefetch(String url) {
+        if (!isEnabled() || url == null || url.isBlank()) {
+            return;
+        }
+        pending.computeIfAbsent(url, key -> CompletableFuture.supplyAsync(() -> {
+            try {
+                return throttle.call(() -> load(key));
+            } catch (Exception ex) {
+                throw new CompletionException(ex);
+            }
+        }, executor));
+    }
+
+    // Prefetched document if one was scheduled, otherwise a throttled inline fetch.
+    public Document fetch(String url) throws Exception {
+        CompletableFuture<Document> future = pending.remove(url);
+        if (future == null) {
+            return throttle.call(() -> load(url));
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public void reset() {
+        pending.values().forEach(future -> future.cancel(true));
+        pending.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reset();
+        executor.shutdownNow();
+    }
+
+    private Document load(String url) throws Exception {
+        return Jsoup.connect(url)
+                .userAgent(userAgent)
+                .get();
+    }
+}
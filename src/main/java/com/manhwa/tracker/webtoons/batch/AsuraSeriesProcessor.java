@@ -2,16 +2,14 @@ package com.manhwa.tracker.webtoons.batch;
 
 import com.manhwa.tracker.webtoons.model.AsuraSeriesDTO;
 import com.manhwa.tracker.webtoons.model.Manhwa;
-import com.manhwa.tracker.webtoons.model.ManhwaExternalId;
-import com.manhwa.tracker.webtoons.model.ManhwaTitle;
 import com.manhwa.tracker.webtoons.model.MetricSnapshot;
 import com.manhwa.tracker.webtoons.model.MetricType;
+import com.manhwa.tracker.webtoons.model.ScrapeResult;
 import com.manhwa.tracker.webtoons.model.TitleSource;
-import com.manhwa.tracker.webtoons.repository.ManhwaExternalIdRepository;
 import com.manhwa.tracker.webtoons.repository.ManhwaRepository;
-import com.manhwa.tracker.webtoons.repository.ManhwaTitleRepository;
 import com.manhwa.tracker.webtoons.service.MangaUpdatesEnrichmentService;
 import com.manhwa.tracker.webtoons.service.TitleNormalizer;
+import com.manhwa.tracker.webtoons.service.TitleResolver;
 import com.manhwa.tracker.webtoons.service.CoverSelectionService;
 import com.manhwa.tracker.webtoons.service.LocalCoverStorageService;
 import lombok.RequiredArgsConstructor;
@@ -20,12 +18,12 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PreDestroy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.LinkedHashSet;
 import java.util.Optional;
@@ -35,7 +33,7 @@ import java.util.regex.Pattern;
 
 @Component
 @RequiredArgsConstructor
-public class AsuraSeriesProcessor implements ItemProcessor<AsuraSeriesDTO, MetricSnapshot> {
+public class AsuraSeriesProcessor implements ItemProcessor<AsuraSeriesDTO, ScrapeResult> {
     private static final Pattern FOLLOWERS_PATTERN =
             Pattern.compile("Followed\\s+by\\s*([0-9,]+)\\s*people", Pattern.CASE_INSENSITIVE);
     private static final Pattern BOOKMARKS_PATTERN =
@@ -44,12 +42,12 @@ public class AsuraSeriesProcessor implements ItemProcessor<AsuraSeriesDTO, Metri
             Pattern.compile("\"ratingCount\"\\s*:\\s*\"?([0-9,]+)\"?", Pattern.CASE_INSENSITIVE);
 
     private final ManhwaRepository manhwaRepository;
-    private final ManhwaTitleRepository manhwaTitleRepository;
-    private final ManhwaExternalIdRepository manhwaExternalIdRepository;
     private final CoverSelectionService coverSelectionService;
     private final LocalCoverStorageService localCoverStorageService;
     private final MangaUpdatesEnrichmentService mangaUpdatesEnrichmentService;
-    private final List<String> skippedTitles = new ArrayList<>();
+    private final AsuraPagePrefetcher asuraPagePrefetcher;
+    private final TitleResolver titleResolver;
+    private final List<String> skippedTitles = Collections.synchronizedList(new ArrayList<>());
 
     @Value("${app.asura.user-agent:Mozilla/5.0}")
     private String userAgent;
@@ -58,13 +56,18 @@ public class AsuraSeriesProcessor implements ItemProcessor<AsuraSeriesDTO, Metri
     private long requestDelayMs;
 
     @Override
-    public MetricSnapshot process(AsuraSeriesDTO dto) throws Exception {
-        if (requestDelayMs > 0) {
-            Thread.sleep(requestDelayMs);
+    public ScrapeResult process(AsuraSeriesDTO dto) throws Exception {
+        Document doc;
+        if (asuraPagePrefetcher.isEnabled()) {
+            doc = asuraPagePrefetcher.fetch(dto.getSeriesUrl());
+        } else {
+            if (requestDelayMs > 0) {
+                Thread.sleep(requestDelayMs);
+            }
+            doc = Jsoup.connect(dto.getSeriesUrl())
+                    .userAgent(userAgent)
+                    .get();
         }
-        Document doc = Jsoup.connect(dto.getSeriesUrl())
-                .userAgent(userAgent)
-                .get();
 
         String title = dto.getTitle();
         String pageTitle = extractTitle(doc);
@@ -88,13 +91,15 @@ public class AsuraSeriesProcessor implements ItemProcessor<AsuraSeriesDTO, Metri
                 System.out.println("WARN: Asura title could not be resolved or created, skipping: " + resolvedTitle);
                 return null;
             }
+            titleResolver.remember(resolvedTitle, manhwaId);
             System.out.println("INFO: Asura title created/resolved via MangaUpdates: " + resolvedTitle + " -> manhwaId=" + manhwaId);
         }
 
-        upsertExternalId(manhwaId, dto.getSeriesUrl());
-        upsertAsuraAlias(manhwaId, resolvedTitle);
-        updateManhwaMetadata(manhwaId, doc);
-        mangaUpdatesEnrichmentService.enrichManhwa(manhwaId, resolvedTitle);
+        ScrapeResult result = new ScrapeResult()
+                .externalId(externalIdWrite(manhwaId, dto.getSeriesUrl()))
+                .alias(asuraAliasWrite(manhwaId, resolvedTitle));
+        updateManhwaMetadata(manhwaId, doc, result);
+        result.enrichment(manhwaId, resolvedTitle);
 
         MetricSnapshot snapshot = new MetricSnapshot();
         snapshot.setManhwaId(manhwaId);
@@ -103,89 +108,31 @@ public class AsuraSeriesProcessor implements ItemProcessor<AsuraSeriesDTO, Metri
         snapshot.setMetricValue(followers);
         snapshot.setCapturedAt(LocalDateTime.now());
 
-        return snapshot;
+        return result.snapshot(snapshot);
     }
 
-    private void upsertExternalId(Long manhwaId, String seriesUrl) {
+    private ScrapeResult.ExternalIdWrite externalIdWrite(Long manhwaId, String seriesUrl) {
         if (seriesUrl == null || seriesUrl.isBlank()) {
-            return;
-        }
-        String externalId = seriesUrl.trim();
-        ManhwaExternalId existingForManhwa = manhwaExternalIdRepository
-                .findByManhwaIdAndSource(manhwaId, TitleSource.ASURA)
-                .orElse(null);
-        if (existingForManhwa != null) {
-            boolean changed = false;
-            if (!externalId.equals(existingForManhwa.getExternalId())) {
-                existingForManhwa.setExternalId(externalId);
-                changed = true;
-            }
-            if (existingForManhwa.getUrl() == null || existingForManhwa.getUrl().isBlank() || !seriesUrl.equals(existingForManhwa.getUrl())) {
-                existingForManhwa.setUrl(seriesUrl);
-                changed = true;
-            }
-            if (changed) {
-                try {
-                    manhwaExternalIdRepository.save(existingForManhwa);
-                } catch (DataIntegrityViolationException ex) {
-                    System.out.println("WARN: Could not update Asura external ID for manhwaId=" + manhwaId
-                            + " externalId=" + externalId + " : " + ex.getMessage());
-                }
-            }
-            return;
-        }
-        ManhwaExternalId existingByExternalId = manhwaExternalIdRepository
-                .findBySourceAndExternalId(TitleSource.ASURA, externalId)
-                .orElse(null);
-        if (existingByExternalId != null) {
-            if (existingByExternalId.getManhwaId() != null && !existingByExternalId.getManhwaId().equals(manhwaId)) {
-                System.out.println("WARN: Asura external ID already linked to different manhwaId="
-                        + existingByExternalId.getManhwaId() + " for url=" + seriesUrl);
-            }
-            return;
-        }
-        try {
-            manhwaExternalIdRepository.save(new ManhwaExternalId(manhwaId, TitleSource.ASURA, externalId, seriesUrl));
-        } catch (DataIntegrityViolationException ex) {
-            System.out.println("WARN: Could not insert Asura external ID for manhwaId=" + manhwaId
-                    + " externalId=" + externalId + " : " + ex.getMessage());
+            return null;
         }
+        return new ScrapeResult.ExternalIdWrite(manhwaId, TitleSource.ASURA, seriesUrl.trim(), seriesUrl);
     }
 
+    // The page title usually matches the listing title registered by the reader; when it
+    // doesn't, the resolver falls back to a lookup for just this title.
     private Long resolveManhwaId(String title) {
-        if (title == null || title.isBlank()) {
-            return null;
-        }
-        String normalized = TitleNormalizer.normalize(title);
-        if (!normalized.isEmpty()) {
-            List<ManhwaTitle> matches = manhwaTitleRepository.findByNormalizedTitle(normalized);
-            if (!matches.isEmpty()) {
-                return matches.get(0).getManhwaId();
-            }
-        }
-        Manhwa manhwa = manhwaRepository.findByCanonicalTitle(title).orElse(null);
-        return manhwa == null ? null : manhwa.getId();
+        return titleResolver.resolve(title);
     }
 
-    private void upsertAsuraAlias(Long manhwaId, String title) {
+    private ScrapeResult.AliasWrite asuraAliasWrite(Long manhwaId, String title) {
         if (manhwaId == null || title == null || title.isBlank()) {
-            return;
+            return null;
         }
         String normalized = TitleNormalizer.normalize(title);
         if (normalized.isBlank()) {
-            return;
-        }
-        boolean exists = manhwaTitleRepository.existsByManhwaIdAndNormalizedTitleAndSourceAndLanguageIsNull(
-                manhwaId,
-                normalized,
-                TitleSource.ASURA
-        );
-        if (exists) {
-            return;
+            return null;
         }
-        ManhwaTitle alias = new ManhwaTitle(manhwaId, title, normalized, TitleSource.ASURA);
-        alias.setCanonical(false);
-        manhwaTitleRepository.save(alias);
+        return new ScrapeResult.AliasWrite(manhwaId, title, normalized, TitleSource.ASURA, null);
     }
 
     @PreDestroy
@@ -252,8 +199,8 @@ public class AsuraSeriesProcessor implements ItemProcessor<AsuraSeriesDTO, Metri
         return "";
     }
 
-    private void updateManhwaMetadata(Long manhwaId, Document doc) {
-        Manhwa manhwa = manhwaRepository.findById(manhwaId).orElse(null);
+    private void updateManhwaMetadata(Long manhwaId, Document doc, ScrapeResult result) {
+        Manhwa manhwa = titleResolver.manhwa(manhwaId);
         if (manhwa == null) {
             return;
         }
@@ -263,14 +210,19 @@ public class AsuraSeriesProcessor implements ItemProcessor<AsuraSeriesDTO, Metri
 
         boolean updated = false;
 
-        coverSelectionService.upsertCoverCandidate(manhwaId, TitleSource.ASURA, coverImageUrl);
+        // A locally cached Asura cover overrides the best-candidate pick, as before.
+        boolean pinnedCover = false;
         if (coverImageUrl != null && !coverImageUrl.isBlank()) {
             Optional<String> cachedCoverUrl = localCoverStorageService.storeCover(manhwaId, TitleSource.ASURA, coverImageUrl);
-            if (cachedCoverUrl.isPresent() && !cachedCoverUrl.get().equals(manhwa.getCoverImageUrl())) {
-                manhwa.setCoverImageUrl(cachedCoverUrl.get());
-                updated = true;
+            if (cachedCoverUrl.isPresent()) {
+                pinnedCover = true;
+                if (!cachedCoverUrl.get().equals(manhwa.getCoverImageUrl())) {
+                    manhwa.setCoverImageUrl(cachedCoverUrl.get());
+                    updated = true;
+                }
             }
         }
+        result.coverCandidate(coverSelectionService.candidateFor(manhwaId, TitleSource.ASURA, coverImageUrl, !pinnedCover));
 
         if (description != null && !description.isBlank() &&
                 !description.equals(manhwa.getDescription())) {
@@ -19,6 +19,7 @@ import org.jsoup.select.Elements;
 @Component
 public class AsuraSeriesReader implements ItemReader<AsuraSeriesDTO> {
     private final List<AsuraSeriesDTO> data = new ArrayList<>();
+    private final AsuraPagePrefetcher prefetcher;
     private int index = 0;
 
     @Value("${app.asura.base-url:https://asuracomic.net}")
@@ -42,14 +43,20 @@ public class AsuraSeriesReader implements ItemReader<AsuraSeriesDTO> {
     @Value("${app.asura.stale-page-limit:2}")
     private int stalePageLimit;
 
+    public AsuraSeriesReader(AsuraPagePrefetcher prefetcher) {
+        this.prefetcher = prefetcher;
+    }
+
     @BeforeStep
     public void beforeStep(StepExecution stepExecution) {
         data.clear();
         index = 0;
+        prefetcher.reset();
     }
 
+    // Synchronized so the step can run with a multi-threaded task executor.
     @Override
-    public AsuraSeriesDTO read() throws Exception {
+    public synchronized AsuraSeriesDTO read() throws Exception {
         if (data.isEmpty()) {
             Map<String, String> series = new LinkedHashMap<>();
             int stalePages = 0;
@@ -105,6 +112,11 @@ public class AsuraSeriesReader implements ItemReader<AsuraSeriesDTO> {
         }
 
         if (index < data.size()) {
+            // Keep the next window of series pages in flight while this item is processed.
+            int prefetchUntil = Math.min(data.size(), index + 1 + prefetcher.window());
+            for (int ahead = index; ahead < prefetchUntil; ahead++) {
+                prefetcher.prefetch(data.get(ahead).getSeriesUrl());
+            }
             return data.get(index++);
         }
         return null;
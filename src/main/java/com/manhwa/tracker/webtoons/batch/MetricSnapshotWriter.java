@@ -0,0 +1,37 @@
+package com.manhwa.tracker.webtoons.batch;
+
+import com.manhwa.tracker.webtoons.model.MetricSnapshot;
+import com.manhwa.tracker.webtoons.model.SnapshotsCommittedEvent;
+import com.manhwa.tracker.webtoons.repository.MetricLatestRepository;
+import com.manhwa.tracker.webtoons.repository.MetricSnapshotRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class MetricSnapshotWriter {
+    private final MetricSnapshotRepository metricSnapshotRepository;
+    private final MetricLatestRepository metricLatestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MetricSnapshotWriter(MetricSnapshotRepository metricSnapshotRepository,
+                                MetricLatestRepository metricLatestRepository,
+                                ApplicationEventPublisher eventPublisher) {
+        this.metricSnapshotRepository = metricSnapshotRepository;
+        this.metricLatestRepository = metricLatestRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // Runs inside the chunk transaction so the rollup never drifts from the snapshot history.
+    // Listeners bound to AFTER_COMMIT only see the event once the chunk is durable.
+    public void write(List<MetricSnapshot> snapshots) {
+        if (snapshots == null || snapshots.isEmpty()) {
+            return;
+        }
+        metricSnapshotRepository.saveAll(snapshots);
+        metricLatestRepository.upsertAll(snapshots);
+        eventPublisher.publishEvent(new SnapshotsCommittedEvent(new ArrayList<>(snapshots)));
+    }
+}
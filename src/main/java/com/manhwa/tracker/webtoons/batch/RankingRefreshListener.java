@@ -0,0 +1,29 @@
+package com.manhwa.tracker.webtoons.batch;
+
+import com.manhwa.tracker.webtoons.service.TrendingService;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RankingRefreshListener implements JobExecutionListener {
+    private final TrendingService trendingService;
+
+    public RankingRefreshListener(TrendingService trendingService) {
+        this.trendingService = trendingService;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        // Chunks commit as they go, so even a failed run may have landed new snapshots.
+        long started = System.currentTimeMillis();
+        try {
+            trendingService.refreshMaterializedRankings();
+            System.out.println("INFO: Ranking boards refreshed after " + jobExecution.getJobInstance().getJobName()
+                    + " in " + (System.currentTimeMillis() - started) + "ms");
+        } catch (Exception ex) {
+            System.out.println("WARN: Ranking board refresh failed after "
+                    + jobExecution.getJobInstance().getJobName() + " : " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.manhwa.tracker.webtoons.batch;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Politeness gate for one host: at most `permits` requests in flight, started no faster than
+// a token bucket refilling at `requestsPerSecond` (burst of one second's worth of tokens).
+public final class RequestThrottle {
+    private final Semaphore inFlight;
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAt;
+
+    public RequestThrottle(int permits, double requestsPerSecond) {
+        this.inFlight = new Semaphore(Math.max(1, permits), true);
+        double rate = requestsPerSecond > 0 ? requestsPerSecond : Double.MAX_VALUE;
+        this.tokensPerNano = rate / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1d, Math.min(rate, permits));
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+
+    public <T> T call(Callable<T> request) throws Exception {
+        inFlight.acquire();
+        try {
+            long waitNanos = reserve();
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            return request.call();
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    // Non-blocking variant for async clients: the request is started once a slot is free and its
+    // token is due, on a delayed executor instead of a sleeping thread; the slot is held until the
+    // returned future completes.
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        waiting.add(() -> {
+            long waitNanos = reserve();
+            Executor start = waitNanos > 0
+                    ? CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS)
+                    : Runnable::run;
+            CompletableFuture.supplyAsync(request, start)
+                    .thenCompose(Function.identity())
+                    .whenComplete((value, error) -> {
+                        inFlight.release();
+                        startWaiting();
+                        if (error != null) {
+                            result.completeExceptionally(error);
+                        } else {
+                            result.complete(value);
+                        }
+                    });
+        });
+        startWaiting();
+        return result;
+    }
+
+    // Called after every enqueue and release, so a queued request never misses a freed slot.
+    private void startWaiting() {
+        while (!waiting.isEmpty() && inFlight.tryAcquire()) {
+            Runnable next = waiting.poll();
+            if (next == null) {
+                inFlight.release();
+                continue;
+            }
+            next.run();
+        }
+    }
+
+    // Takes a token now, going into debt if none is left; the debt is the caller's wait.
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        tokens -= 1d;
+        return tokens >= 0 ? 0L : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+}
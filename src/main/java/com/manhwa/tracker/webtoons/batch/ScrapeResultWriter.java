@@ -0,0 +1,84 @@
+package com.manhwa.tracker.webtoons.batch;
+
+import com.manhwa.tracker.webtoons.model.MetricSnapshot;
+import com.manhwa.tracker.webtoons.model.ScrapeResult;
+import com.manhwa.tracker.webtoons.repository.EnrichmentQueueRepository;
+import com.manhwa.tracker.webtoons.repository.ScrapeWriteRepository;
+import com.manhwa.tracker.webtoons.service.AliasIndex;
+import com.manhwa.tracker.webtoons.service.MangaUpdatesEnrichmentWorker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Chunk writer for the scrape steps: flushes the processors' external id, alias and cover
+// candidate writes as one batch per table, queues MangaUpdates enrichment, then hands the
+// snapshots to MetricSnapshotWriter.
+@Component
+public class ScrapeResultWriter {
+    private final ScrapeWriteRepository scrapeWriteRepository;
+    private final MetricSnapshotWriter metricSnapshotWriter;
+    private final AliasIndex aliasIndex;
+    private final EnrichmentQueueRepository enrichmentQueueRepository;
+    private final MangaUpdatesEnrichmentWorker enrichmentWorker;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ScrapeResultWriter(ScrapeWriteRepository scrapeWriteRepository,
+                              MetricSnapshotWriter metricSnapshotWriter,
+                              AliasIndex aliasIndex,
+                              EnrichmentQueueRepository enrichmentQueueRepository,
+                              MangaUpdatesEnrichmentWorker enrichmentWorker) {
+        this.scrapeWriteRepository = scrapeWriteRepository;
+        this.metricSnapshotWriter = metricSnapshotWriter;
+        this.aliasIndex = aliasIndex;
+        this.enrichmentQueueRepository = enrichmentQueueRepository;
+        this.enrichmentWorker = enrichmentWorker;
+    }
+
+    public void write(List<? extends ScrapeResult> results) {
+        List<MetricSnapshot> snapshots = new ArrayList<>();
+        List<ScrapeResult.ExternalIdWrite> externalIds = new ArrayList<>();
+        List<ScrapeResult.AliasWrite> aliases = new ArrayList<>();
+        List<ScrapeResult.CoverCandidateWrite> coverCandidates = new ArrayList<>();
+        List<ScrapeResult.EnrichmentRequest> enrichments = new ArrayList<>();
+        Set<Long> coverManhwaIds = new LinkedHashSet<>();
+        for (ScrapeResult result : results) {
+            if (result == null) {
+                continue;
+            }
+            snapshots.addAll(result.snapshots());
+            externalIds.addAll(result.externalIds());
+            aliases.addAll(result.aliases());
+            enrichments.addAll(result.enrichments());
+            for (ScrapeResult.CoverCandidateWrite candidate : result.coverCandidates()) {
+                coverCandidates.add(candidate);
+                if (candidate.selectBest()) {
+                    coverManhwaIds.add(candidate.manhwaId());
+                }
+            }
+        }
+
+        // Push the processors' pending entity changes first so a later Hibernate flush cannot
+        // overwrite the cover chosen below with a stale manhwas row.
+        entityManager.flush();
+
+        scrapeWriteRepository.upsertExternalIds(externalIds);
+        scrapeWriteRepository.insertAliases(aliases);
+        for (ScrapeResult.AliasWrite alias : aliases) {
+            aliasIndex.add(alias.normalizedTitle(), alias.manhwaId());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        scrapeWriteRepository.upsertCoverCandidates(coverCandidates, now);
+        scrapeWriteRepository.selectBestCovers(coverManhwaIds);
+        enrichmentQueueRepository.enqueueAll(enrichments, now, enrichmentWorker.staleBefore(now));
+
+        metricSnapshotWriter.write(snapshots);
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -17,16 +18,43 @@ public class SnapshotScheduler {
     private final Job scrapeJob;
     private final Job asuraScrapeJob;
     private final Job tapasScrapeJob;
+    private final Job snapshotCompactionJob;
+    private final Job snapshotAllSourcesJob;
+    private final boolean orchestrated;
 
-    public SnapshotScheduler(JobLauncher jobLauncher, Job scrapeJob, Job asuraScrapeJob, Job tapasScrapeJob) {
+    public SnapshotScheduler(JobLauncher jobLauncher,
+                             Job scrapeJob,
+                             Job asuraScrapeJob,
+                             Job tapasScrapeJob,
+                             Job snapshotCompactionJob,
+                             Job snapshotAllSourcesJob,
+                             @Value("${app.snapshot.orchestrated:true}") boolean orchestrated) {
         this.jobLauncher = jobLauncher;
         this.scrapeJob = scrapeJob;
         this.asuraScrapeJob = asuraScrapeJob;
         this.tapasScrapeJob = tapasScrapeJob;
+        this.snapshotCompactionJob = snapshotCompactionJob;
+        this.snapshotAllSourcesJob = snapshotAllSourcesJob;
+        this.orchestrated = orchestrated;
+    }
+
+    // Orchestrated mode replaces the three per-source schedules below with one split job.
+    @Scheduled(cron = "${app.snapshot.cron}", zone = "${app.snapshot.zone:UTC}")
+    public void runAllSourcesSnapshot() throws Exception {
+        if (!orchestrated) {
+            return;
+        }
+        JobParameters params = new JobParametersBuilder()
+                .addString("JobID", String.valueOf(System.currentTimeMillis()))
+                .toJobParameters();
+        jobLauncher.run(snapshotAllSourcesJob, params);
     }
 
     @Scheduled(cron = "${app.webtoons.cron:${app.snapshot.cron}}", zone = "${app.snapshot.zone:UTC}")
     public void runWeeklySnapshot() throws Exception {
+        if (orchestrated) {
+            return;
+        }
         JobParameters params = new JobParametersBuilder()
                 .addString("JobID", String.valueOf(System.currentTimeMillis()))
                 .toJobParameters();
@@ -35,6 +63,9 @@ public class SnapshotScheduler {
 
     @Scheduled(cron = "${app.asura.cron:${app.snapshot.cron}}", zone = "${app.snapshot.zone:UTC}")
     public void runAsuraSnapshot() throws Exception {
+        if (orchestrated) {
+            return;
+        }
         JobParameters params = new JobParametersBuilder()
                 .addString("JobID", String.valueOf(System.currentTimeMillis()))
                 .addString("Source", "ASURA")
@@ -44,10 +75,21 @@ public class SnapshotScheduler {
 
     @Scheduled(cron = "${app.tapas.cron:${app.snapshot.cron}}", zone = "${app.snapshot.zone:UTC}")
     public void runTapasSnapshot() throws Exception {
+        if (orchestrated) {
+            return;
+        }
         JobParameters params = new JobParametersBuilder()
                 .addString("JobID", String.valueOf(System.currentTimeMillis()))
                 .addString("Source", "TAPAS")
                 .toJobParameters();
         jobLauncher.run(tapasScrapeJob, params);
     }
+
+    @Scheduled(cron = "${app.snapshots.compaction.cron:0 0 4 * * *}", zone = "${app.snapshot.zone:UTC}")
+    public void runSnapshotCompaction() throws Exception {
+        JobParameters params = new JobParametersBuilder()
+                .addString("JobID", String.valueOf(System.currentTimeMillis()))
+                .toJobParameters();
+        jobLauncher.run(snapshotCompactionJob, params);
+    }
 }
@@ -1,18 +1,16 @@
 package com.manhwa.tracker.webtoons.batch;
 
 import com.manhwa.tracker.webtoons.model.Manhwa;
-import com.manhwa.tracker.webtoons.model.ManhwaExternalId;
-import com.manhwa.tracker.webtoons.model.ManhwaTitle;
 import com.manhwa.tracker.webtoons.model.MetricSnapshot;
 import com.manhwa.tracker.webtoons.model.MetricType;
+import com.manhwa.tracker.webtoons.model.ScrapeResult;
 import com.manhwa.tracker.webtoons.model.TapasSeriesDTO;
 import com.manhwa.tracker.webtoons.model.TitleSource;
-import com.manhwa.tracker.webtoons.repository.ManhwaExternalIdRepository;
 import com.manhwa.tracker.webtoons.repository.ManhwaRepository;
-import com.manhwa.tracker.webtoons.repository.ManhwaTitleRepository;
 import com.manhwa.tracker.webtoons.service.CoverSelectionService;
 import com.manhwa.tracker.webtoons.service.MangaUpdatesEnrichmentService;
 import com.manhwa.tracker.webtoons.service.TitleNormalizer;
+import com.manhwa.tracker.webtoons.service.TitleResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
@@ -20,26 +18,25 @@ import org.springframework.stereotype.Component;
 import jakarta.annotation.PreDestroy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
-public class TapasSeriesProcessor implements ItemProcessor<TapasSeriesDTO, List<MetricSnapshot>> {
+public class TapasSeriesProcessor implements ItemProcessor<TapasSeriesDTO, ScrapeResult> {
     private static final int SOURCE_ID_TAPAS = 3;
 
     private final ManhwaRepository manhwaRepository;
-    private final ManhwaTitleRepository manhwaTitleRepository;
-    private final ManhwaExternalIdRepository manhwaExternalIdRepository;
     private final CoverSelectionService coverSelectionService;
     private final MangaUpdatesEnrichmentService mangaUpdatesEnrichmentService;
+    private final TitleResolver titleResolver;
 
-    private final List<String> skippedTitles = new ArrayList<>();
+    private final List<String> skippedTitles = Collections.synchronizedList(new ArrayList<>());
 
     @Override
-    public List<MetricSnapshot> process(TapasSeriesDTO dto) {
+    public ScrapeResult process(TapasSeriesDTO dto) {
         Long manhwaId = resolveManhwaId(dto.getTitle());
         if (manhwaId == null) {
             manhwaId = mangaUpdatesEnrichmentService.resolveOrCreateManhwaByTitle(dto.getTitle());
@@ -50,29 +47,31 @@ public class TapasSeriesProcessor implements ItemProcessor<TapasSeriesDTO, List<
                 System.out.println("WARN: Tapas title could not be resolved or created, skipping: " + dto.getTitle());
                 return null;
             }
+            titleResolver.remember(dto.getTitle(), manhwaId);
             System.out.println("INFO: Tapas title created/resolved via MangaUpdates: "
                     + dto.getTitle() + " -> manhwaId=" + manhwaId);
         }
 
-        upsertExternalId(manhwaId, dto.getSeriesId());
-        upsertAlias(manhwaId, dto);
-        coverSelectionService.upsertCoverCandidate(manhwaId, TitleSource.TAPAS, dto.getCoverImageUrl());
-        mangaUpdatesEnrichmentService.enrichManhwa(manhwaId, dto.getTitle());
+        ScrapeResult result = new ScrapeResult()
+                .externalId(externalIdWrite(manhwaId, dto.getSeriesId()))
+                .alias(aliasWrite(manhwaId, dto))
+                .coverCandidate(coverSelectionService.candidateFor(
+                        manhwaId, TitleSource.TAPAS, dto.getCoverImageUrl(), true))
+                .enrichment(manhwaId, dto.getTitle());
         applyTapasGenres(manhwaId, dto.getGenre());
 
-        List<MetricSnapshot> snapshots = new ArrayList<>(3);
         LocalDateTime now = LocalDateTime.now();
         if (dto.getViewCount() != null) {
-            snapshots.add(buildSnapshot(manhwaId, MetricType.VIEWS, dto.getViewCount(), now));
+            result.snapshot(buildSnapshot(manhwaId, MetricType.VIEWS, dto.getViewCount(), now));
         }
         if (dto.getSubscriberCount() != null) {
-            snapshots.add(buildSnapshot(manhwaId, MetricType.SUBSCRIBERS, dto.getSubscriberCount(), now));
+            result.snapshot(buildSnapshot(manhwaId, MetricType.SUBSCRIBERS, dto.getSubscriberCount(), now));
         }
         if (dto.getLikeCount() != null) {
-            snapshots.add(buildSnapshot(manhwaId, MetricType.LIKES, dto.getLikeCount(), now));
+            result.snapshot(buildSnapshot(manhwaId, MetricType.LIKES, dto.getLikeCount(), now));
         }
 
-        return snapshots.isEmpty() ? null : snapshots;
+        return result;
     }
 
     private MetricSnapshot buildSnapshot(Long manhwaId, MetricType type, Long value, LocalDateTime now) {
@@ -86,96 +85,44 @@ public class TapasSeriesProcessor implements ItemProcessor<TapasSeriesDTO, List<
     }
 
     private Long resolveManhwaId(String title) {
-        if (title == null || title.isBlank()) {
-            return null;
-        }
-        String normalized = TitleNormalizer.normalize(title);
-        if (!normalized.isEmpty()) {
-            List<ManhwaTitle> matches = manhwaTitleRepository.findByNormalizedTitle(normalized);
-            if (!matches.isEmpty()) {
-                Optional<Manhwa> byId = manhwaRepository.findById(matches.get(0).getManhwaId());
-                if (byId.isPresent()) {
-                    return byId.get().getId();
-                }
-            }
-        }
-        Manhwa manhwa = manhwaRepository.findByCanonicalTitle(title).orElse(null);
-        return manhwa == null ? null : manhwa.getId();
+        return titleResolver.resolve(title);
     }
 
-    private void upsertExternalId(Long manhwaId, String seriesId) {
+    private ScrapeResult.ExternalIdWrite externalIdWrite(Long manhwaId, String seriesId) {
         if (seriesId == null || seriesId.isBlank()) {
-            return;
-        }
-        String seriesUrl = "https://tapas.io/series/" + seriesId;
-        Optional<ManhwaExternalId> existingForManhwa = manhwaExternalIdRepository
-                .findByManhwaIdAndSource(manhwaId, TitleSource.TAPAS);
-        if (existingForManhwa.isPresent()) {
-            ManhwaExternalId row = existingForManhwa.get();
-            boolean changed = false;
-            if (!seriesId.equals(row.getExternalId())) {
-                row.setExternalId(seriesId);
-                changed = true;
-            }
-            if (row.getUrl() == null || row.getUrl().isBlank() || !seriesUrl.equals(row.getUrl())) {
-                row.setUrl(seriesUrl);
-                changed = true;
-            }
-            if (changed) {
-                manhwaExternalIdRepository.save(row);
-            }
-            return;
-        }
-
-        Optional<ManhwaExternalId> existing = manhwaExternalIdRepository.findBySourceAndExternalId(TitleSource.TAPAS, seriesId);
-        if (existing.isPresent()) {
-            ManhwaExternalId external = existing.get();
-            if (external.getUrl() == null || external.getUrl().isBlank()) {
-                external.setUrl(seriesUrl);
-                manhwaExternalIdRepository.save(external);
-            }
-            return;
+            return null;
         }
-        manhwaExternalIdRepository.save(new ManhwaExternalId(manhwaId, TitleSource.TAPAS, seriesId, seriesUrl));
+        return new ScrapeResult.ExternalIdWrite(manhwaId, TitleSource.TAPAS, seriesId, "https://tapas.io/series/" + seriesId);
     }
 
-    private void upsertAlias(Long manhwaId, TapasSeriesDTO dto) {
+    private ScrapeResult.AliasWrite aliasWrite(Long manhwaId, TapasSeriesDTO dto) {
         if (dto.getTitle() == null || dto.getTitle().isBlank()) {
-            return;
+            return null;
         }
         String normalized = TitleNormalizer.normalize(dto.getTitle());
         if (normalized.isEmpty()) {
-            return;
+            return null;
         }
         String language = dto.getLanguageCode();
         if (language != null && language.isBlank()) {
             language = null;
         }
-        boolean exists = language == null
-                ? manhwaTitleRepository.existsByManhwaIdAndNormalizedTitleAndSourceAndLanguageIsNull(
-                        manhwaId, normalized, TitleSource.TAPAS)
-                : manhwaTitleRepository.existsByManhwaIdAndNormalizedTitleAndSourceAndLanguage(
-                        manhwaId, normalized, TitleSource.TAPAS, language);
-        if (exists) {
-            return;
-        }
-        ManhwaTitle alias = new ManhwaTitle(manhwaId, dto.getTitle(), normalized, TitleSource.TAPAS);
-        alias.setLanguage(language);
-        alias.setCanonical(false);
-        manhwaTitleRepository.save(alias);
+        return new ScrapeResult.AliasWrite(manhwaId, dto.getTitle(), normalized, TitleSource.TAPAS, language);
     }
 
     private void applyTapasGenres(Long manhwaId, String tapasGenreCsv) {
         if (tapasGenreCsv == null || tapasGenreCsv.isBlank()) {
             return;
         }
-        manhwaRepository.findById(manhwaId).ifPresent(manhwa -> {
-            String merged = mergeGenres(manhwa.getGenre(), tapasGenreCsv);
-            if (merged != null && !merged.equals(manhwa.getGenre())) {
-                manhwa.setGenre(merged);
-                manhwaRepository.save(manhwa);
-            }
-        });
+        Manhwa manhwa = titleResolver.manhwa(manhwaId);
+        if (manhwa == null) {
+            return;
+        }
+        String merged = mergeGenres(manhwa.getGenre(), tapasGenreCsv);
+        if (merged != null && !merged.equals(manhwa.getGenre())) {
+            manhwa.setGenre(merged);
+            manhwaRepository.save(manhwa);
+        }
     }
 
     private String mergeGenres(String existing, String incoming) {
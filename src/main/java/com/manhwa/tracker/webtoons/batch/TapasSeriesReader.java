@@ -3,6 +3,7 @@ package com.manhwa.tracker.webtoons.batch;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.manhwa.tracker.webtoons.model.TapasSeriesDTO;
+import com.manhwa.tracker.webtoons.repository.TapasInfoGenreRepository;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -17,12 +18,18 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Component
 public class TapasSeriesReader implements ItemReader<TapasSeriesDTO> {
@@ -33,10 +40,15 @@ public class TapasSeriesReader implements ItemReader<TapasSeriesDTO> {
             .build();
 
     private final List<TapasSeriesDTO> pageItems = new ArrayList<>();
-    private final Map<String, String> infoGenreCache = new LinkedHashMap<>();
+    // Info-page genres looked up this run by inline reads; the prefetch producer keeps its own map,
+    // so no cache is shared with (or cleared under) a background thread.
+    private Map<String, String> infoGenreCache = new HashMap<>();
+    private final TapasInfoGenreRepository tapasInfoGenreRepository;
     private int index = 0;
     private int currentPage = 1;
     private boolean lastPage = false;
+    private BlockingQueue<Page> prefetched;
+    private Thread producer;
 
     @Value("${app.tapas.base-url:https://story-api.tapas.io}")
     private String baseUrl;
@@ -59,23 +71,38 @@ public class TapasSeriesReader implements ItemReader<TapasSeriesDTO> {
     @Value("${app.tapas.request-delay-ms:200}")
     private long requestDelayMs;
 
+    @Value("${app.tapas.prefetch-pages:2}")
+    private int prefetchPages;
+
     @Value("${app.tapas.info-genre.enabled:true}")
     private boolean infoGenreEnabled;
 
     @Value("${app.tapas.info-request-delay-ms:120}")
     private long infoRequestDelayMs;
 
+    @Value("${app.tapas.info-genre.concurrency:4}")
+    private int infoConcurrency;
+
+    @Value("${app.tapas.info-genre.ttl-hours:168}")
+    private long infoTtlHours;
+
+    public TapasSeriesReader(TapasInfoGenreRepository tapasInfoGenreRepository) {
+        this.tapasInfoGenreRepository = tapasInfoGenreRepository;
+    }
+
     @BeforeStep
-    public void beforeStep(StepExecution stepExecution) {
+    public void beforeStep(StepExecution stepExecution) throws InterruptedException {
+        stopProducer();
         pageItems.clear();
-        infoGenreCache.clear();
+        infoGenreCache = new HashMap<>();
         index = 0;
         currentPage = 1;
         lastPage = false;
     }
 
+    // Synchronized so the step can run with a multi-threaded task executor.
     @Override
-    public TapasSeriesDTO read() throws Exception {
+    public synchronized TapasSeriesDTO read() throws Exception {
         if (index < pageItems.size()) {
             return pageItems.get(index++);
         }
@@ -87,8 +114,80 @@ public class TapasSeriesReader implements ItemReader<TapasSeriesDTO> {
         pageItems.clear();
         index = 0;
 
+        Page page = prefetchPages > 0 ? nextPrefetchedPage() : fetchPage(currentPage, infoGenreCache);
+        pageItems.addAll(page.items());
+        // The producer stops after an empty page too, so nothing more will be queued.
+        lastPage = page.last() || page.items().isEmpty();
+        currentPage++;
+
+        if (prefetchPages <= 0 && requestDelayMs > 0 && !lastPage) {
+            Thread.sleep(requestDelayMs);
+        }
+
+        if (pageItems.isEmpty()) {
+            return null;
+        }
+        return pageItems.get(index++);
+    }
+
+    // A background thread keeps up to prefetch-pages upcoming pages (API call plus info-page
+    // genres) ready in a bounded queue, so page latency overlaps processing of the current one.
+    // Pages still arrive strictly in order and a failure surfaces from read() at its position;
+    // the failure page is put back so every later read() (from any worker) fails the same way
+    // instead of waiting on a producer that has already stopped.
+    private Page nextPrefetchedPage() throws Exception {
+        if (prefetched == null) {
+            BlockingQueue<Page> queue = new ArrayBlockingQueue<>(prefetchPages);
+            int firstPage = currentPage;
+            prefetched = queue;
+            producer = Thread.ofVirtual().name("tapas-page-prefetch").start(() -> producePages(queue, firstPage));
+        }
+        Page page = prefetched.take();
+        if (page.failure() != null) {
+            prefetched.put(page);
+            throw page.failure();
+        }
+        return page;
+    }
+
+    private void producePages(BlockingQueue<Page> queue, int firstPage) {
+        Map<String, String> infoGenres = new HashMap<>();
+        try {
+            for (int pageNumber = firstPage; ; pageNumber++) {
+                Page page;
+                try {
+                    page = fetchPage(pageNumber, infoGenres);
+                } catch (InterruptedException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    queue.put(new Page(List.of(), true, ex));
+                    return;
+                }
+                queue.put(page);
+                if (page.last() || page.items().isEmpty()) {
+                    return;
+                }
+                if (requestDelayMs > 0) {
+                    Thread.sleep(requestDelayMs);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void stopProducer() throws InterruptedException {
+        if (producer != null) {
+            producer.interrupt();
+            producer.join(Duration.ofSeconds(30));
+        }
+        producer = null;
+        prefetched = null;
+    }
+
+    private Page fetchPage(int pageNumber, Map<String, String> infoGenres) throws Exception {
         String url = String.format("%s%s?category_type=%s&subtab_id=%d&page=%d&size=%d",
-                baseUrl, endpoint, categoryType, subtabId, currentPage, pageSize);
+                baseUrl, endpoint, categoryType, subtabId, pageNumber, pageSize);
 
         HttpRequest request = HttpRequest.newBuilder()
                 .uri(URI.create(url))
@@ -105,15 +204,14 @@ public class TapasSeriesReader implements ItemReader<TapasSeriesDTO> {
 
         JsonNode root = objectMapper.readTree(response.body());
         JsonNode items = root.path("data").path("items");
+        List<TapasSeriesDTO> dtos = new ArrayList<>();
         for (JsonNode item : items) {
             TapasSeriesDTO dto = new TapasSeriesDTO();
             dto.setSeriesId(item.path("seriesId").asText());
             dto.setSeriesUrl("https://tapas.io/series/" + dto.getSeriesId());
             dto.setTitle(item.path("title").asText());
             dto.setLanguageCode(item.path("languageCode").asText(null));
-            String apiGenres = extractGenres(item);
-            String infoGenres = fetchInfoGenres(dto.getSeriesUrl());
-            dto.setGenre(mergeValues(apiGenres, infoGenres));
+            dto.setGenre(extractGenres(item));
             JsonNode assets = item.path("assetProperty");
             String emailImageUrl = assets.path("emailImage").path("path").asText(null);
             String bookCoverImageUrl = assets.path("bookCoverImage").path("path").asText(null);
@@ -123,21 +221,13 @@ public class TapasSeriesReader implements ItemReader<TapasSeriesDTO> {
             dto.setViewCount(service.path("viewCount").isMissingNode() ? null : service.path("viewCount").asLong());
             dto.setSubscriberCount(service.path("subscriberCount").isMissingNode() ? null : service.path("subscriberCount").asLong());
             dto.setLikeCount(service.path("likeCount").isMissingNode() ? null : service.path("likeCount").asLong());
-            pageItems.add(dto);
+            dtos.add(dto);
         }
 
-        JsonNode pagination = root.path("meta").path("pagination");
-        lastPage = pagination.path("last").asBoolean(false);
-        currentPage++;
-
-        if (requestDelayMs > 0 && !lastPage) {
-            Thread.sleep(requestDelayMs);
-        }
+        applyInfoGenres(dtos, infoGenres);
 
-        if (pageItems.isEmpty()) {
-            return null;
-        }
-        return pageItems.get(index++);
+        JsonNode pagination = root.path("meta").path("pagination");
+        return new Page(dtos, pagination.path("last").asBoolean(false), null);
     }
 
     private String firstNonBlank(String... values) {
@@ -172,58 +262,96 @@ public class TapasSeriesReader implements ItemReader<TapasSeriesDTO> {
         return String.join(", ", genres);
     }
 
-    private String fetchInfoGenres(String seriesUrl) {
-        if (!infoGenreEnabled || seriesUrl == null || seriesUrl.isBlank()) {
-            return null;
+    // Info-page genres for one API page: served from the calling thread's run map, then from
+    // tapas_info_genres while younger than the TTL; the rest are fetched concurrently behind
+    // a RequestThrottle (rate 1000/info-request-delay-ms per second) and written back.
+    private void applyInfoGenres(List<TapasSeriesDTO> items, Map<String, String> infoGenres) {
+        if (!infoGenreEnabled || items.isEmpty()) {
+            return;
+        }
+        Set<String> missing = new LinkedHashSet<>();
+        for (TapasSeriesDTO dto : items) {
+            if (dto.getSeriesUrl() != null && !dto.getSeriesUrl().isBlank() && !infoGenres.containsKey(dto.getSeriesUrl())) {
+                missing.add(dto.getSeriesUrl());
+            }
+        }
+        if (!missing.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            Map<String, String> stored = tapasInfoGenreRepository.findFresh(missing, now.minusHours(Math.max(0L, infoTtlHours)));
+            infoGenres.putAll(stored);
+            missing.removeAll(stored.keySet());
         }
-        String cached = infoGenreCache.get(seriesUrl);
-        if (cached != null) {
-            return cached;
+        if (!missing.isEmpty()) {
+            Map<String, String> fetched = fetchInfoGenres(missing);
+            tapasInfoGenreRepository.upsertAll(fetched, LocalDateTime.now());
+            for (String seriesUrl : missing) {
+                // Failed fetches are remembered for this run only.
+                infoGenres.put(seriesUrl, fetched.get(seriesUrl));
+            }
         }
+        for (TapasSeriesDTO dto : items) {
+            dto.setGenre(mergeValues(dto.getGenre(), infoGenres.get(dto.getSeriesUrl())));
+        }
+    }
 
-        try {
-            String infoUrl = seriesUrl.endsWith("/") ? seriesUrl + "info" : seriesUrl + "/info";
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(infoUrl))
-                    .timeout(Duration.ofSeconds(20))
-                    .header("User-Agent", userAgent)
-                    .GET()
-                    .build();
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() < 200 || response.statusCode() >= 300) {
-                infoGenreCache.put(seriesUrl, null);
-                return null;
+    // Only successful fetches are returned; the map may hold null genres.
+    private Map<String, String> fetchInfoGenres(Set<String> seriesUrls) {
+        double requestsPerSecond = infoRequestDelayMs > 0 ? 1000d / infoRequestDelayMs : 0d;
+        RequestThrottle throttle = new RequestThrottle(infoConcurrency, requestsPerSecond);
+        Map<String, String> fetched = new ConcurrentHashMap<>();
+        Set<String> empty = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String seriesUrl : seriesUrls) {
+                executor.submit(() -> {
+                    try {
+                        String genres = throttle.call(() -> fetchInfoPage(seriesUrl));
+                        if (genres == null) {
+                            empty.add(seriesUrl);
+                        } else {
+                            fetched.put(seriesUrl, genres);
+                        }
+                    } catch (Exception ex) {
+                        System.out.println("WARN: Tapas info genre fetch failed for " + seriesUrl + " : " + ex.getMessage());
+                    }
+                });
             }
+        }
+        Map<String, String> result = new HashMap<>(fetched);
+        empty.forEach(seriesUrl -> result.put(seriesUrl, null));
+        return result;
+    }
 
-            Document doc = Jsoup.parse(response.body());
-            Set<String> values = new LinkedHashSet<>();
-            for (Element header : doc.select("p.detail-row__header")) {
-                if (!"Genres".equalsIgnoreCase(header.text().trim())) {
-                    continue;
-                }
-                Element section = header.parent();
-                if (section == null) {
-                    continue;
-                }
-                for (Element chip : section.select("a")) {
-                    addTag(values, chip.text());
-                }
+    private String fetchInfoPage(String seriesUrl) throws Exception {
+        String infoUrl = seriesUrl.endsWith("/") ? seriesUrl + "info" : seriesUrl + "/info";
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(infoUrl))
+                .timeout(Duration.ofSeconds(20))
+                .header("User-Agent", userAgent)
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+
+        Document doc = Jsoup.parse(response.body());
+        Set<String> values = new LinkedHashSet<>();
+        for (Element header : doc.select("p.detail-row__header")) {
+            if (!"Genres".equalsIgnoreCase(header.text().trim())) {
+                continue;
             }
-            for (Element tagChip : doc.select("a.tags__item")) {
-                addTag(values, tagChip.text());
+            Element section = header.parent();
+            if (section == null) {
+                continue;
             }
-
-            String result = values.isEmpty() ? null : String.join(", ", values);
-            infoGenreCache.put(seriesUrl, result);
-            if (infoRequestDelayMs > 0) {
-                Thread.sleep(infoRequestDelayMs);
+            for (Element chip : section.select("a")) {
+                addTag(values, chip.text());
             }
-            return result;
-        } catch (Exception ex) {
-            System.out.println("WARN: Tapas info genre fetch failed for " + seriesUrl + " : " + ex.getMessage());
-            infoGenreCache.put(seriesUrl, null);
-            return null;
         }
+        for (Element tagChip : doc.select("a.tags__item")) {
+            addTag(values, tagChip.text());
+        }
+        return values.isEmpty() ? null : String.join(", ", values);
     }
 
     private String mergeValues(String... csvValues) {
@@ -286,4 +414,7 @@ public class TapasSeriesReader implements ItemReader<TapasSeriesDTO> {
             genres.add(cleaned);
         }
     }
+
+    private record Page(List<TapasSeriesDTO> items, boolean last, Exception failure) {
+    }
 }
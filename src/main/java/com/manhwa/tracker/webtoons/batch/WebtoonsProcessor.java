@@ -2,41 +2,37 @@ package com.manhwa.tracker.webtoons.batch;
 
 import com.manhwa.tracker.webtoons.model.Manhwa;
 import com.manhwa.tracker.webtoons.model.ManhwaDTO;
-import com.manhwa.tracker.webtoons.model.ManhwaExternalId;
-import com.manhwa.tracker.webtoons.model.ManhwaTitle;
 import com.manhwa.tracker.webtoons.model.MetricSnapshot;
 import com.manhwa.tracker.webtoons.model.MetricType;
+import com.manhwa.tracker.webtoons.model.ScrapeResult;
 import com.manhwa.tracker.webtoons.model.TitleSource;
-import com.manhwa.tracker.webtoons.repository.ManhwaExternalIdRepository;
 import com.manhwa.tracker.webtoons.repository.ManhwaRepository;
-import com.manhwa.tracker.webtoons.repository.ManhwaTitleRepository;
 import com.manhwa.tracker.webtoons.service.CoverSelectionService;
 import com.manhwa.tracker.webtoons.service.MangaUpdatesEnrichmentService;
 import com.manhwa.tracker.webtoons.service.TitleNormalizer;
+import com.manhwa.tracker.webtoons.service.TitleResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PreDestroy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor // Automatically injects the repository
-public class WebtoonsProcessor implements ItemProcessor<ManhwaDTO, MetricSnapshot> {
+public class WebtoonsProcessor implements ItemProcessor<ManhwaDTO, ScrapeResult> {
 
     private final ManhwaRepository manhwaRepository;
-    private final ManhwaTitleRepository manhwaTitleRepository;
-    private final ManhwaExternalIdRepository manhwaExternalIdRepository;
     private final CoverSelectionService coverSelectionService;
     private final MangaUpdatesEnrichmentService mangaUpdatesEnrichmentService;
-    private final List<String> skippedTitles = new ArrayList<>();
+    private final TitleResolver titleResolver;
+    private final List<String> skippedTitles = Collections.synchronizedList(new ArrayList<>());
 
     @Override
-    public MetricSnapshot process(ManhwaDTO dto) throws Exception {
+    public ScrapeResult process(ManhwaDTO dto) throws Exception {
         Manhwa manhwa = resolveManhwa(dto.getTitle());
         if (manhwa == null) {
             Long resolvedId = mangaUpdatesEnrichmentService.resolveOrCreateManhwaByTitle(dto.getTitle());
@@ -47,7 +43,8 @@ public class WebtoonsProcessor implements ItemProcessor<ManhwaDTO, MetricSnapsho
                 System.out.println("WARN: Webtoons title could not be resolved or created, skipping: " + dto.getTitle());
                 return null;
             }
-            manhwa = manhwaRepository.findById(resolvedId).orElse(null);
+            titleResolver.remember(dto.getTitle(), resolvedId);
+            manhwa = titleResolver.manhwa(resolvedId);
             if (manhwa == null) {
                 if (dto.getTitle() != null) {
                     skippedTitles.add(dto.getTitle());
@@ -62,9 +59,11 @@ public class WebtoonsProcessor implements ItemProcessor<ManhwaDTO, MetricSnapsho
         // 2. Update metadata if it has changed or was previously null
         boolean needsUpdate = false;
 
-        upsertExternalId(manhwa.getId(), dto.getSeriesUrl());
-        upsertWebtoonsAlias(manhwa.getId(), dto.getTitle());
-        coverSelectionService.upsertCoverCandidate(manhwa.getId(), TitleSource.WEBTOONS, dto.getCoverImageUrl());
+        ScrapeResult result = new ScrapeResult()
+                .externalId(externalIdWrite(manhwa.getId(), dto.getSeriesUrl()))
+                .alias(webtoonsAliasWrite(manhwa.getId(), dto.getTitle()))
+                .coverCandidate(coverSelectionService.candidateFor(
+                        manhwa.getId(), TitleSource.WEBTOONS, dto.getCoverImageUrl(), true));
 
         if (manhwa.getGenre() == null || !manhwa.getGenre().equals(dto.getGenre())) {
             manhwa.setGenre(dto.getGenre());
@@ -76,7 +75,7 @@ public class WebtoonsProcessor implements ItemProcessor<ManhwaDTO, MetricSnapsho
             manhwa = manhwaRepository.save(manhwa);
         }
 
-        mangaUpdatesEnrichmentService.enrichManhwa(manhwa.getId(), dto.getTitle());
+        result.enrichment(manhwa.getId(), dto.getTitle());
 
         // 3. Create the Snapshot entity linked to the Manhwa
         MetricSnapshot snapshot = new MetricSnapshot();
@@ -86,84 +85,30 @@ public class WebtoonsProcessor implements ItemProcessor<ManhwaDTO, MetricSnapsho
         snapshot.setSourceId(1);
         snapshot.setCapturedAt(LocalDateTime.now());
 
-        return snapshot;
+        return result.snapshot(snapshot);
     }
 
-    private void upsertExternalId(Long manhwaId, String seriesUrl) {
+    private ScrapeResult.ExternalIdWrite externalIdWrite(Long manhwaId, String seriesUrl) {
         if (seriesUrl == null || seriesUrl.isBlank()) {
-            return;
-        }
-        String externalId = seriesUrl.trim();
-        Optional<ManhwaExternalId> existingForManhwa = manhwaExternalIdRepository
-                .findByManhwaIdAndSource(manhwaId, TitleSource.WEBTOONS);
-        if (existingForManhwa.isPresent()) {
-            ManhwaExternalId row = existingForManhwa.get();
-            boolean changed = false;
-            if (!externalId.equals(row.getExternalId())) {
-                row.setExternalId(externalId);
-                changed = true;
-            }
-            if (row.getUrl() == null || row.getUrl().isBlank() || !seriesUrl.equals(row.getUrl())) {
-                row.setUrl(seriesUrl);
-                changed = true;
-            }
-            if (changed) {
-                try {
-                    manhwaExternalIdRepository.save(row);
-                } catch (DataIntegrityViolationException ex) {
-                    System.out.println("WARN: Could not update Webtoons external ID for manhwaId=" + manhwaId
-                            + " externalId=" + externalId + " : " + ex.getMessage());
-                }
-            }
-            return;
-        }
-        if (manhwaExternalIdRepository.findBySourceAndExternalId(TitleSource.WEBTOONS, externalId).isPresent()) {
-            return;
-        }
-        try {
-            manhwaExternalIdRepository.save(new ManhwaExternalId(manhwaId, TitleSource.WEBTOONS, externalId, seriesUrl));
-        } catch (DataIntegrityViolationException ex) {
-            System.out.println("WARN: Could not insert Webtoons external ID for manhwaId=" + manhwaId
-                    + " externalId=" + externalId + " : " + ex.getMessage());
+            return null;
         }
+        return new ScrapeResult.ExternalIdWrite(manhwaId, TitleSource.WEBTOONS, seriesUrl.trim(), seriesUrl);
     }
 
-    private void upsertWebtoonsAlias(Long manhwaId, String title) {
+    private ScrapeResult.AliasWrite webtoonsAliasWrite(Long manhwaId, String title) {
         if (manhwaId == null || title == null || title.isBlank()) {
-            return;
+            return null;
         }
         String normalized = TitleNormalizer.normalize(title);
         if (normalized.isBlank()) {
-            return;
-        }
-        boolean exists = manhwaTitleRepository.existsByManhwaIdAndNormalizedTitleAndSourceAndLanguageIsNull(
-                manhwaId,
-                normalized,
-                TitleSource.WEBTOONS
-        );
-        if (exists) {
-            return;
+            return null;
         }
-        ManhwaTitle alias = new ManhwaTitle(manhwaId, title, normalized, TitleSource.WEBTOONS);
-        alias.setCanonical(false);
-        manhwaTitleRepository.save(alias);
+        return new ScrapeResult.AliasWrite(manhwaId, title, normalized, TitleSource.WEBTOONS, null);
     }
 
     private Manhwa resolveManhwa(String title) {
-        if (title == null || title.isBlank()) {
-            return null;
-        }
-        String normalized = TitleNormalizer.normalize(title);
-        if (!normalized.isEmpty()) {
-            List<ManhwaTitle> matches = manhwaTitleRepository.findByNormalizedTitle(normalized);
-            if (!matches.isEmpty()) {
-                Optional<Manhwa> byId = manhwaRepository.findById(matches.get(0).getManhwaId());
-                if (byId.isPresent()) {
-                    return byId.get();
-                }
-            }
-        }
-        return manhwaRepository.findByCanonicalTitle(title).orElse(null);
+        Long manhwaId = titleResolver.resolve(title);
+        return titleResolver.manhwa(manhwaId);
     }
 
     @PreDestroy
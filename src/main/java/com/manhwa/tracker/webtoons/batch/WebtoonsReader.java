@@ -5,28 +5,48 @@ import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.core.annotation.BeforeStep;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 @Component
 public class WebtoonsReader implements ItemReader<ManhwaDTO> {
+    private static final ManhwaDTO END_OF_STREAM = new ManhwaDTO(null, null, null, null, null);
+    private static final Comparator<ManhwaDTO> BY_VIEWS_DESC =
+            Comparator.comparingLong((ManhwaDTO dto) -> dto.getViews() == null ? 0L : dto.getViews()).reversed()
+                    .thenComparing(ManhwaDTO::getTitle, String.CASE_INSENSITIVE_ORDER);
+
     private List<ManhwaDTO> data = new ArrayList<>();
     private int index = 0;
+    private BlockingQueue<ManhwaDTO> stream;
+    private Thread producer;
+    private volatile Exception streamFailure;
 
     @Value("${app.webtoons.base-url:https://www.webtoons.com}")
     private String baseUrl;
@@ -52,81 +72,64 @@ public class WebtoonsReader implements ItemReader<ManhwaDTO> {
     @Value("${app.webtoons.genre-request-delay-ms:120}")
     private int genreRequestDelayMs;
 
+    @Value("${app.webtoons.crawl-concurrency:4}")
+    private int crawlConcurrency;
+
+    @Value("${app.webtoons.requests-per-second:4}")
+    private double requestsPerSecond;
+
+    @Value("${app.webtoons.streaming:false}")
+    private boolean streaming;
+
+    @Value("${app.webtoons.stream-buffer:256}")
+    private int streamBuffer;
+
     @BeforeStep
     public void beforeStep(StepExecution stepExecution) {
         data.clear();
         index = 0;
+        stopProducer();
+        streamFailure = null;
+    }
+
+    // A failed or stopped step must not leave the streaming crawl running in the background (or
+    // parked on a full queue) until the next run.
+    @AfterStep
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        stopProducer();
+        return null;
     }
 
+    // Synchronized so the step can run with a multi-threaded task executor.
     @Override
-    public ManhwaDTO read() throws Exception {
+    public synchronized ManhwaDTO read() throws Exception {
+        if (streaming) {
+            return readStreaming();
+        }
         if (data.isEmpty()) {
             String genresUrl = buildGenresUrl();
-            Document genresDoc = Jsoup.connect(genresUrl)
-                    .userAgent(userAgent)
-                    .timeout(Math.max(1000, requestTimeoutMs))
-                    .get();
-
-            Set<String> excludedGenreKeys = parseExcludedGenreKeys(excludedGenres);
-            List<GenreLink> genreLinks = extractGenreLinks(genresDoc, excludedGenreKeys);
+            List<GenreLink> genreLinks = loadGenreLinks(genresUrl);
             if (genreLinks.isEmpty()) {
                 System.out.println("WARN: No Webtoons genre links found at " + genresUrl);
                 return null;
             }
 
-            Map<String, ManhwaDTO> bySeriesKey = new LinkedHashMap<>();
-            int scrapedRows = 0;
-            int scrapedGenres = 0;
-            int excludedCount = 0;
-
-            for (GenreLink genreLink : genreLinks) {
-                if (genreLink.excluded()) {
-                    excludedCount++;
-                    continue;
-                }
-                String genreUrl = applySortOrder(genreLink.url(), genreSortOrder);
-                if (genreRequestDelayMs > 0) {
-                    Thread.sleep(genreRequestDelayMs);
-                }
-                Document genreDoc = Jsoup.connect(genreUrl)
-                        .userAgent(userAgent)
-                        .timeout(Math.max(1000, requestTimeoutMs))
-                        .get();
-
-                Elements cards = genreDoc.select("ul.webtoon_list li a._genre_title_a");
-                scrapedGenres++;
-                for (Element card : cards) {
-                    String title = card.select(".info_text .title").text().trim();
-                    if (title.isEmpty()) {
-                        continue;
-                    }
-                    String viewsRaw = card.select(".view_count").text().trim();
-                    String coverImageUrl = card.select(".image_wrap img").attr("abs:src");
-                    if (coverImageUrl.isBlank()) {
-                        coverImageUrl = card.select(".image_wrap img").attr("src");
-                    }
-                    String seriesUrl = card.attr("abs:href");
-                    if (seriesUrl.isBlank()) {
-                        seriesUrl = card.attr("href");
-                    }
-                    String genre = card.attr("data-genre");
-                    if (genre == null || genre.isBlank()) {
-                        genre = genreLink.genreDisplay();
-                    }
-
-                    Long views = parseViews(viewsRaw);
-                    String key = buildSeriesKey(card.attr("data-title-no"), seriesUrl, title);
-                    ManhwaDTO existing = bySeriesKey.get(key);
-                    if (existing == null || (existing.getViews() != null && views > existing.getViews())) {
-                        bySeriesKey.put(key, new ManhwaDTO(title, views, seriesUrl, coverImageUrl, genre));
-                    }
-                    scrapedRows++;
-                }
-            }
-
-            List<ManhwaDTO> all = new ArrayList<>(bySeriesKey.values());
-            all.sort(Comparator.comparingLong((ManhwaDTO dto) -> dto.getViews() == null ? 0L : dto.getViews()).reversed()
-                    .thenComparing(ManhwaDTO::getTitle, String.CASE_INSENSITIVE_ORDER));
+            List<GenreLink> included = genreLinks.stream().filter(link -> !link.excluded()).toList();
+            int excludedCount = genreLinks.size() - included.size();
+            Map<String, Card> bySeriesKey = crawlConcurrency > 1
+                    ? new ConcurrentHashMap<>()
+                    : new LinkedHashMap<>();
+            long crawlStarted = System.currentTimeMillis();
+            int scrapedRows = crawl(included, (key, dto, genreOrder) -> bySeriesKey.merge(
+                    key,
+                    new Card(dto, genreOrder),
+                    WebtoonsReader::preferredCard
+            ));
+            int scrapedGenres = included.size();
+
+            List<ManhwaDTO> all = new ArrayList<>(bySeriesKey.size());
+            bySeriesKey.values().forEach(card -> all.add(card.dto()));
+            all.sort(BY_VIEWS_DESC);
 
             int depth = maxItems <= 0 ? all.size() : Math.min(maxItems, all.size());
             data = new ArrayList<>(all.subList(0, depth));
@@ -139,6 +142,8 @@ public class WebtoonsReader implements ItemReader<ManhwaDTO> {
                             + " | rawRows=" + scrapedRows
                             + " | deduped=" + all.size()
                             + " | ingesting=" + depth
+                            + " | concurrency=" + Math.max(1, crawlConcurrency)
+                            + " | crawlMs=" + (System.currentTimeMillis() - crawlStarted)
             );
 
         }
@@ -149,6 +154,195 @@ public class WebtoonsReader implements ItemReader<ManhwaDTO> {
         return null;
     }
 
+    // Streaming mode: a producer thread crawls and hands each new series to the step through a
+    // bounded queue, so processing overlaps the crawl and the catalog is never held in full.
+    // Duplicates keep the first card seen instead of the highest view count. With max-items
+    // the top N by views are kept in a bounded heap and released once the crawl ends.
+    private ManhwaDTO readStreaming() throws Exception {
+        if (stream == null) {
+            stream = new ArrayBlockingQueue<>(Math.max(16, streamBuffer));
+            BlockingQueue<ManhwaDTO> queue = stream;
+            producer = Thread.ofVirtual().name("webtoons-crawl").start(() -> produce(queue));
+        }
+        ManhwaDTO next = stream.take();
+        if (next == END_OF_STREAM) {
+            stream.put(END_OF_STREAM);
+            if (streamFailure != null) {
+                throw streamFailure;
+            }
+            return null;
+        }
+        return next;
+    }
+
+    private void stopProducer() {
+        if (producer != null) {
+            producer.interrupt();
+            try {
+                producer.join(Duration.ofSeconds(30));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        producer = null;
+        stream = null;
+    }
+
+    private void produce(BlockingQueue<ManhwaDTO> queue) {
+        String genresUrl = buildGenresUrl();
+        try {
+            List<GenreLink> genreLinks = loadGenreLinks(genresUrl);
+            if (genreLinks.isEmpty()) {
+                System.out.println("WARN: No Webtoons genre links found at " + genresUrl);
+            }
+            List<GenreLink> included = genreLinks.stream().filter(link -> !link.excluded()).toList();
+            Set<String> seen = ConcurrentHashMap.newKeySet();
+            long crawlStarted = System.currentTimeMillis();
+            int scrapedRows;
+            int emitted;
+            if (maxItems > 0) {
+                PriorityQueue<ManhwaDTO> top = new PriorityQueue<>(maxItems + 1, BY_VIEWS_DESC.reversed());
+                scrapedRows = crawl(included, (key, dto, genreOrder) -> {
+                    if (!seen.add(key)) {
+                        return;
+                    }
+                    synchronized (top) {
+                        top.offer(dto);
+                        if (top.size() > maxItems) {
+                            top.poll();
+                        }
+                    }
+                });
+                List<ManhwaDTO> ranked = new ArrayList<>(top);
+                ranked.sort(BY_VIEWS_DESC);
+                for (ManhwaDTO dto : ranked) {
+                    queue.put(dto);
+                }
+                emitted = ranked.size();
+            } else {
+                scrapedRows = crawl(included, (key, dto, genreOrder) -> {
+                    if (seen.add(key)) {
+                        queue.put(dto);
+                    }
+                });
+                emitted = seen.size();
+            }
+            System.out.println(
+                    "DEBUG: Webtoons streaming crawl from " + genresUrl
+                            + " | genreLinks=" + genreLinks.size()
+                            + " | scrapedGenres=" + included.size()
+                            + " | rawRows=" + scrapedRows
+                            + " | deduped=" + seen.size()
+                            + " | ingesting=" + emitted
+                            + " | crawlMs=" + (System.currentTimeMillis() - crawlStarted)
+            );
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception ex) {
+            streamFailure = ex;
+        }
+        try {
+            queue.put(END_OF_STREAM);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<GenreLink> loadGenreLinks(String genresUrl) throws IOException {
+        Document genresDoc = Jsoup.connect(genresUrl)
+                .userAgent(userAgent)
+                .timeout(Math.max(1000, requestTimeoutMs))
+                .get();
+        return extractGenreLinks(genresDoc, parseExcludedGenreKeys(excludedGenres));
+    }
+
+    private int crawl(List<GenreLink> genreLinks, CardSink sink) throws Exception {
+        if (crawlConcurrency > 1 && genreLinks.size() > 1) {
+            return crawlConcurrently(genreLinks, sink);
+        }
+        int rows = 0;
+        for (GenreLink genreLink : genreLinks) {
+            if (genreRequestDelayMs > 0) {
+                Thread.sleep(genreRequestDelayMs);
+            }
+            rows += collectCards(fetchGenrePage(genreLink), genreLink, sink);
+        }
+        return rows;
+    }
+
+    // Genre pages fetched on virtual threads; RequestThrottle replaces the fixed delay with a
+    // per-host in-flight cap and a request rate. The first failed page fails the read, as in
+    // the sequential crawl.
+    private int crawlConcurrently(List<GenreLink> genreLinks, CardSink sink) throws Exception {
+        RequestThrottle throttle = new RequestThrottle(crawlConcurrency, requestsPerSecond);
+        List<Future<Integer>> pages = new ArrayList<>(genreLinks.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (GenreLink genreLink : genreLinks) {
+                pages.add(executor.submit(() -> collectCards(
+                        throttle.call(() -> fetchGenrePage(genreLink)),
+                        genreLink,
+                        sink
+                )));
+            }
+            int rows = 0;
+            for (Future<Integer> page : pages) {
+                try {
+                    rows += page.get();
+                } catch (InterruptedException ex) {
+                    // Stopped (e.g. by afterStep): cancel the remaining pages instead of waiting on them.
+                    pages.forEach(pending -> pending.cancel(true));
+                    throw ex;
+                } catch (ExecutionException ex) {
+                    pages.forEach(pending -> pending.cancel(true));
+                    if (ex.getCause() instanceof Exception cause) {
+                        throw cause;
+                    }
+                    throw ex;
+                }
+            }
+            return rows;
+        }
+    }
+
+    private Document fetchGenrePage(GenreLink genreLink) throws IOException {
+        return Jsoup.connect(applySortOrder(genreLink.url(), genreSortOrder))
+                .userAgent(userAgent)
+                .timeout(Math.max(1000, requestTimeoutMs))
+                .get();
+    }
+
+    // Sinks may be called from several crawl threads at once.
+    private int collectCards(Document genreDoc, GenreLink genreLink, CardSink sink) throws InterruptedException {
+        Elements cards = genreDoc.select("ul.webtoon_list li a._genre_title_a");
+        int rows = 0;
+        for (Element card : cards) {
+            String title = card.select(".info_text .title").text().trim();
+            if (title.isEmpty()) {
+                continue;
+            }
+            String viewsRaw = card.select(".view_count").text().trim();
+            String coverImageUrl = card.select(".image_wrap img").attr("abs:src");
+            if (coverImageUrl.isBlank()) {
+                coverImageUrl = card.select(".image_wrap img").attr("src");
+            }
+            String seriesUrl = card.attr("abs:href");
+            if (seriesUrl.isBlank()) {
+                seriesUrl = card.attr("href");
+            }
+            String genre = card.attr("data-genre");
+            if (genre == null || genre.isBlank()) {
+                genre = genreLink.genreDisplay();
+            }
+
+            Long views = parseViews(viewsRaw);
+            String key = buildSeriesKey(card.attr("data-title-no"), seriesUrl, title);
+            sink.accept(key, new ManhwaDTO(title, views, seriesUrl, coverImageUrl, genre), genreLink.order());
+            rows++;
+        }
+        return rows;
+    }
+
     private String buildGenresUrl() {
         String normalizedBase = baseUrl == null ? "" : baseUrl.trim();
         String normalizedPath = genresPath == null ? "" : genresPath.trim();
@@ -175,7 +369,7 @@ public class WebtoonsReader implements ItemReader<ManhwaDTO> {
             String effective = !slug.isBlank() ? slug : (!genreCode.isBlank() ? genreCode : genreDisplay);
             String normalizedKey = normalizeGenreKey(effective);
             boolean excluded = excludedGenreKeys.contains(normalizedKey);
-            unique.putIfAbsent(url, new GenreLink(url, genreDisplay, normalizedKey, excluded));
+            unique.putIfAbsent(url, new GenreLink(url, genreDisplay, normalizedKey, excluded, unique.size()));
         }
         return new ArrayList<>(unique.values());
     }
@@ -261,6 +455,26 @@ public class WebtoonsReader implements ItemReader<ManhwaDTO> {
         }
     }
 
-    private record GenreLink(String url, String genreDisplay, String normalizedKey, boolean excluded) {
+    // Keeps the higher view count; on a tie the card from the earlier genre link wins, as in the
+    // sequential crawl, so the series' genre does not depend on which page arrived first.
+    private static Card preferredCard(Card existing, Card incoming) {
+        long existingViews = existing.dto().getViews() == null ? 0L : existing.dto().getViews();
+        long incomingViews = incoming.dto().getViews() == null ? 0L : incoming.dto().getViews();
+        if (incomingViews != existingViews) {
+            return incomingViews > existingViews ? incoming : existing;
+        }
+        return incoming.genreOrder() < existing.genreOrder() ? incoming : existing;
+    }
+
+    @FunctionalInterface
+    private interface CardSink {
+        void accept(String seriesKey, ManhwaDTO dto, int genreOrder) throws InterruptedException;
+    }
+
+    private record Card(ManhwaDTO dto, int genreOrder) {
+    }
+
+    // order = position on the genres page, used to break ties between duplicate cards.
+    private record GenreLink(String url, String genreDisplay, String normalizedKey, boolean excluded, int order) {
     }
 }
@@ -10,40 +10,101 @@ import com.manhwa.tracker.webtoons.model.AsuraSeriesDTO;
 import com.manhwa.tracker.webtoons.batch.TapasSeriesReader;
 import com.manhwa.tracker.webtoons.batch.TapasSeriesProcessor;
 import com.manhwa.tracker.webtoons.model.TapasSeriesDTO;
-import com.manhwa.tracker.webtoons.model.MetricSnapshot;
-import com.manhwa.tracker.webtoons.repository.MetricSnapshotRepository;
+import com.manhwa.tracker.webtoons.model.ScrapeResult;
+import com.manhwa.tracker.webtoons.batch.RankingRefreshListener;
+import com.manhwa.tracker.webtoons.batch.ScrapeResultWriter;
+import com.manhwa.tracker.webtoons.service.SnapshotCompactionService;
+import com.manhwa.tracker.webtoons.service.TitleResolver;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
+import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import com.manhwa.tracker.webtoons.batch.WebtoonsProcessor;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @Configuration
 public class BatchConfig {
+    @Value("${app.batch.parallel.enabled:false}")
+    private boolean parallelEnabled;
+
+    @Value("${app.batch.parallel.workers:8}")
+    private int parallelWorkers;
+
+    @Value("${app.webtoons.chunk-size:10}")
+    private int webtoonsChunkSize;
+
+    @Value("${app.asura.chunk-size:10}")
+    private int asuraChunkSize;
+
+    @Value("${app.tapas.chunk-size:10}")
+    private int tapasChunkSize;
 
     @Bean
-    public Job scrapeJob(JobRepository jobRepository, Step scrapingStep) {
+    public Job scrapeJob(JobRepository jobRepository,
+                         Step scrapingStep,
+                         RankingRefreshListener rankingRefreshListener) {
         return new JobBuilder("webtoonsScrapeJob", jobRepository)
                 .start(scrapingStep)
+                .listener(rankingRefreshListener)
                 .build();
     }
 
     @Bean
-    public Job asuraScrapeJob(JobRepository jobRepository, Step asuraScrapingStep) {
+    public Job asuraScrapeJob(JobRepository jobRepository,
+                              Step asuraScrapingStep,
+                              RankingRefreshListener rankingRefreshListener) {
         return new JobBuilder("asuraScrapeJob", jobRepository)
                 .start(asuraScrapingStep)
+                .listener(rankingRefreshListener)
                 .build();
     }
 
     @Bean
-    public Job tapasScrapeJob(JobRepository jobRepository, Step tapasScrapingStep) {
+    public Job tapasScrapeJob(JobRepository jobRepository,
+                              Step tapasScrapingStep,
+                              RankingRefreshListener rankingRefreshListener) {
         return new JobBuilder("tapasScrapeJob", jobRepository)
                 .start(tapasScrapingStep)
+                .listener(rankingRefreshListener)
+                .build();
+    }
+
+    // All three sources scrape in parallel; the ranking refresh runs once, after the slowest
+    // one lands. Like the per-source jobs it refreshes from the listener, so boards are rebuilt
+    // even when one source fails.
+    @Bean
+    public Job snapshotAllSourcesJob(JobRepository jobRepository,
+                                     Step scrapingStep,
+                                     Step asuraScrapingStep,
+                                     Step tapasScrapingStep,
+                                     RankingRefreshListener rankingRefreshListener) {
+        Flow allSources = new FlowBuilder<SimpleFlow>("allSourcesFlow")
+                .split(virtualThreadExecutor("snapshot-split-", 3))
+                .add(
+                        new FlowBuilder<SimpleFlow>("webtoonsFlow").start(scrapingStep).build(),
+                        new FlowBuilder<SimpleFlow>("asuraFlow").start(asuraScrapingStep).build(),
+                        new FlowBuilder<SimpleFlow>("tapasFlow").start(tapasScrapingStep).build()
+                )
+                .build();
+        return new JobBuilder("snapshotAllSourcesJob", jobRepository)
+                .start(allSources)
+                .end()
+                .listener(rankingRefreshListener)
+                .build();
+    }
+
+    @Bean
+    public Job snapshotCompactionJob(JobRepository jobRepository, Step snapshotCompactionStep) {
+        return new JobBuilder("snapshotCompactionJob", jobRepository)
+                .start(snapshotCompactionStep)
                 .build();
     }
 
@@ -52,14 +113,15 @@ public class BatchConfig {
                              PlatformTransactionManager transactionManager,
                              WebtoonsReader reader,
                              WebtoonsProcessor processor, // Inject the processor here
-                             MetricSnapshotRepository repository) {
-        return new StepBuilder("scrapingStep", jobRepository)
-                .<ManhwaDTO, MetricSnapshot>chunk(10, transactionManager)
+                             ScrapeResultWriter writer,
+                             TitleResolver titleResolver) {
+        return parallel(new StepBuilder("scrapingStep", jobRepository)
+                .<ManhwaDTO, ScrapeResult>chunk(webtoonsChunkSize, transactionManager)
                 .reader(reader)
                 .processor(processor) // Tell Spring Batch to use the processor
-                .writer(chunk -> {
-                    repository.saveAll(chunk.getItems());
-                })
+                .listener(titleResolver.<ManhwaDTO>registering(ManhwaDTO::getTitle))
+                .listener(titleResolver)
+                .writer(chunk -> writer.write(chunk.getItems())), "webtoons-")
                 .build();
     }
 
@@ -68,12 +130,15 @@ public class BatchConfig {
                                   PlatformTransactionManager transactionManager,
                                   AsuraSeriesReader reader,
                                   AsuraSeriesProcessor processor,
-                                  MetricSnapshotRepository repository) {
-        return new StepBuilder("asuraScrapingStep", jobRepository)
-                .<AsuraSeriesDTO, MetricSnapshot>chunk(10, transactionManager)
+                                  ScrapeResultWriter writer,
+                                  TitleResolver titleResolver) {
+        return parallel(new StepBuilder("asuraScrapingStep", jobRepository)
+                .<AsuraSeriesDTO, ScrapeResult>chunk(asuraChunkSize, transactionManager)
                 .reader(reader)
                 .processor(processor)
-                .writer(chunk -> repository.saveAll(chunk.getItems()))
+                .listener(titleResolver.<AsuraSeriesDTO>registering(AsuraSeriesDTO::getTitle))
+                .listener(titleResolver)
+                .writer(chunk -> writer.write(chunk.getItems())), "asura-")
                 .build();
     }
 
@@ -82,22 +147,51 @@ public class BatchConfig {
                                   PlatformTransactionManager transactionManager,
                                   TapasSeriesReader reader,
                                   TapasSeriesProcessor processor,
-                                  MetricSnapshotRepository repository) {
-        return new StepBuilder("tapasScrapingStep", jobRepository)
-                .<TapasSeriesDTO, List<MetricSnapshot>>chunk(10, transactionManager)
+                                  ScrapeResultWriter writer,
+                                  TitleResolver titleResolver) {
+        return parallel(new StepBuilder("tapasScrapingStep", jobRepository)
+                .<TapasSeriesDTO, ScrapeResult>chunk(tapasChunkSize, transactionManager)
                 .reader(reader)
                 .processor(processor)
-                .writer(chunk -> {
-                    List<MetricSnapshot> all = new ArrayList<>();
-                    for (List<MetricSnapshot> item : chunk.getItems()) {
-                        if (item != null) {
-                            all.addAll(item);
-                        }
-                    }
-                    if (!all.isEmpty()) {
-                        repository.saveAll(all);
-                    }
-                })
+                .listener(titleResolver.<TapasSeriesDTO>registering(TapasSeriesDTO::getTitle))
+                .listener(titleResolver)
+                .writer(chunk -> writer.write(chunk.getItems())), "tapas-")
                 .build();
     }
+
+    @Bean
+    public Step snapshotCompactionStep(JobRepository jobRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       SnapshotCompactionService compactionService) {
+        return new StepBuilder("snapshotCompactionStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    SnapshotCompactionService.CompactionResult result = compactionService.compact();
+                    contribution.incrementWriteCount(result.dailyBuckets() + result.weeklyBuckets());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    // Opt-in multi-threaded chunks: each scrape step gets its own virtual-thread executor
+    // capped at app.batch.parallel.workers concurrent chunks. Readers are synchronized and
+    // processors keep no unsynchronized state, so items are safe to process concurrently.
+    // The throttle limit must match the executor: Spring Batch otherwise keeps its default of
+    // 4 concurrent chunks whatever the executor allows.
+    @SuppressWarnings("removal")
+    private <I, O> SimpleStepBuilder<I, O> parallel(SimpleStepBuilder<I, O> builder, String threadPrefix) {
+        if (!parallelEnabled) {
+            return builder;
+        }
+        int workers = Math.max(1, parallelWorkers);
+        builder.taskExecutor(virtualThreadExecutor(threadPrefix, workers));
+        builder.throttleLimit(workers);
+        return builder;
+    }
+
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadPrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadPrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(Math.max(1, concurrencyLimit));
+        return executor;
+    }
 }
@@ -10,6 +10,7 @@ import com.manhwa.tracker.webtoons.model.TitleSource;
 import com.manhwa.tracker.webtoons.repository.ManhwaExternalIdRepository;
 import com.manhwa.tracker.webtoons.repository.ManhwaRepository;
 import com.manhwa.tracker.webtoons.repository.ManhwaTitleRepository;
+import com.manhwa.tracker.webtoons.service.AliasIndex;
 import com.manhwa.tracker.webtoons.service.TitleNormalizer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
@@ -39,6 +40,7 @@ public class SeriesJsonImporter implements CommandLineRunner {
     private final ManhwaRepository manhwaRepository;
     private final ManhwaTitleRepository manhwaTitleRepository;
     private final ManhwaExternalIdRepository manhwaExternalIdRepository;
+    private final AliasIndex aliasIndex;
     private final TransactionTemplate transactionTemplate;
 
     @PersistenceContext
@@ -56,10 +58,12 @@ public class SeriesJsonImporter implements CommandLineRunner {
     public SeriesJsonImporter(ManhwaRepository manhwaRepository,
                               ManhwaTitleRepository manhwaTitleRepository,
                               ManhwaExternalIdRepository manhwaExternalIdRepository,
+                              AliasIndex aliasIndex,
                               PlatformTransactionManager transactionManager) {
         this.manhwaRepository = manhwaRepository;
         this.manhwaTitleRepository = manhwaTitleRepository;
         this.manhwaExternalIdRepository = manhwaExternalIdRepository;
+        this.aliasIndex = aliasIndex;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
@@ -274,6 +278,7 @@ public class SeriesJsonImporter implements CommandLineRunner {
                 manhwaTitleRepository.flush();
             });
             entityManager.clear();
+            buffer.forEach(title -> aliasIndex.add(title.getNormalizedTitle(), title.getManhwaId()));
             return 0;
         } catch (DataIntegrityViolationException ex) {
             entityManager.clear();
@@ -282,6 +287,7 @@ public class SeriesJsonImporter implements CommandLineRunner {
                 try {
                     transactionTemplate.executeWithoutResult(status ->
                             manhwaTitleRepository.saveAndFlush(title));
+                    aliasIndex.add(title.getNormalizedTitle(), title.getManhwaId());
                 } catch (DataIntegrityViolationException ignored) {
                     conflicts++;
                 }
@@ -0,0 +1,19 @@
+package com.manhwa.tracker.webtoons.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardSpec {
+    private String id;
+    private MetricType metric;
+    private Integer sourceId;
+    private TrendingRankingMode mode;
+    private RankingWindow window;
+    private String genre;
+    private Integer limit;
+    private Long minPreviousValue;
+}
@@ -0,0 +1,91 @@
+package com.manhwa.tracker.webtoons.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Everything a scrape processor wants written for one item. The processors only collect;
+// ScrapeResultWriter flushes a whole chunk with one batched statement per table.
+public final class ScrapeResult {
+    private final List<MetricSnapshot> snapshots = new ArrayList<>(3);
+    private final List<ExternalIdWrite> externalIds = new ArrayList<>(1);
+    private final List<AliasWrite> aliases = new ArrayList<>(1);
+    private final List<CoverCandidateWrite> coverCandidates = new ArrayList<>(1);
+    private final List<EnrichmentRequest> enrichments = new ArrayList<>(1);
+
+    public ScrapeResult snapshot(MetricSnapshot snapshot) {
+        if (snapshot != null) {
+            snapshots.add(snapshot);
+        }
+        return this;
+    }
+
+    public ScrapeResult externalId(ExternalIdWrite write) {
+        if (write != null) {
+            externalIds.add(write);
+        }
+        return this;
+    }
+
+    public ScrapeResult alias(AliasWrite write) {
+        if (write != null) {
+            aliases.add(write);
+        }
+        return this;
+    }
+
+    public ScrapeResult coverCandidate(CoverCandidateWrite write) {
+        if (write != null) {
+            coverCandidates.add(write);
+        }
+        return this;
+    }
+
+    public ScrapeResult enrichment(Long manhwaId, String titleHint) {
+        if (manhwaId != null) {
+            enrichments.add(new EnrichmentRequest(manhwaId, titleHint));
+        }
+        return this;
+    }
+
+    public List<MetricSnapshot> snapshots() {
+        return snapshots;
+    }
+
+    public List<ExternalIdWrite> externalIds() {
+        return externalIds;
+    }
+
+    public List<AliasWrite> aliases() {
+        return aliases;
+    }
+
+    public List<CoverCandidateWrite> coverCandidates() {
+        return coverCandidates;
+    }
+
+    public List<EnrichmentRequest> enrichments() {
+        return enrichments;
+    }
+
+    // Links manhwaId to (source, externalId) unless that id already belongs to another manhwa.
+    public record ExternalIdWrite(long manhwaId, TitleSource source, String externalId, String url) {
+    }
+
+    // Non-canonical alias, inserted only if the same (manhwa, normalized title, source, language) is missing.
+    public record AliasWrite(long manhwaId, String title, String normalizedTitle, TitleSource source, String language) {
+    }
+
+    // selectBest=false leaves manhwas.cover_image_url alone, e.g. when the processor pinned a locally cached cover.
+    public record CoverCandidateWrite(long manhwaId,
+                                      TitleSource source,
+                                      String imageUrl,
+                                      int qualityScore,
+                                      Integer width,
+                                      Integer height,
+                                      boolean selectBest) {
+    }
+
+    // Queued for MangaUpdatesEnrichmentWorker instead of calling MangaUpdates inline.
+    public record EnrichmentRequest(long manhwaId, String titleHint) {
+    }
+}
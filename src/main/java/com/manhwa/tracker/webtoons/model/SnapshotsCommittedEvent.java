@@ -0,0 +1,30 @@
+package com.manhwa.tracker.webtoons.model;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public record SnapshotsCommittedEvent(List<MetricSnapshot> snapshots) {
+
+    public Set<Long> manhwaIds() {
+        Set<Long> ids = new HashSet<>();
+        for (MetricSnapshot snapshot : snapshots) {
+            if (snapshot.getManhwaId() != null) {
+                ids.add(snapshot.getManhwaId());
+            }
+        }
+        return ids;
+    }
+
+    // A null sourceId matches every source, like the ranking queries.
+    public boolean touches(MetricType metricType, Integer sourceId) {
+        for (MetricSnapshot snapshot : snapshots) {
+            if (snapshot.getMetricType() == metricType
+                    && (sourceId == null || Objects.equals(sourceId, snapshot.getSourceId()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package com.manhwa.tracker.webtoons.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TrendingBoardDTO {
+    private String id;
+    private MetricType metric;
+    private Integer sourceId;
+    private TrendingRankingMode mode;
+    private RankingWindow window;
+    private String genre;
+    private List<TrendingManhwaDTO> items;
+}
@@ -0,0 +1,115 @@
+package com.manhwa.tracker.webtoons.repository;
+
+import com.manhwa.tracker.webtoons.model.ScrapeResult.EnrichmentRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class EnrichmentQueueRepository {
+    // A pending row is left as is; an enriched row is re-queued only once it is stale.
+    private static final String ENQUEUE_SQL = """
+            INSERT INTO manhwa_enrichment_queue (manhwa_id, title_hint, requested_at)
+            VALUES (?, ?, ?)
+            ON CONFLICT (manhwa_id) DO UPDATE
+               SET title_hint = EXCLUDED.title_hint,
+                   requested_at = EXCLUDED.requested_at,
+                   enriched_at = NULL,
+                   attempts = 0,
+                   last_error = NULL,
+                   claimed_until = NULL
+             WHERE manhwa_enrichment_queue.enriched_at IS NOT NULL
+               AND manhwa_enrichment_queue.enriched_at < ?
+            """;
+
+    // Leases up to n due rows in one short statement; SKIP LOCKED keeps concurrent claimers apart
+    // and the lease keeps the rows out of later claims while the lookups run.
+    private static final String CLAIM_SQL = """
+            UPDATE manhwa_enrichment_queue q
+               SET claimed_until = ?
+             WHERE q.manhwa_id IN (
+                   SELECT manhwa_id
+                   FROM manhwa_enrichment_queue
+                   WHERE enriched_at IS NULL
+                     AND requested_at <= ?
+                     AND (claimed_until IS NULL OR claimed_until < ?)
+                   ORDER BY requested_at
+                   LIMIT ?
+                   FOR UPDATE SKIP LOCKED
+             )
+            RETURNING q.manhwa_id, q.title_hint
+            """;
+
+    private static final String FAILED_SQL = """
+            UPDATE manhwa_enrichment_queue
+               SET attempts = attempts + 1,
+                   last_error = ?,
+                   requested_at = ?,
+                   enriched_at = CASE WHEN attempts + 1 >= ? THEN ? ELSE NULL END,
+                   claimed_until = NULL
+             WHERE manhwa_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EnrichmentQueueRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void enqueueAll(List<EnrichmentRequest> requests, LocalDateTime requestedAt, LocalDateTime staleBefore) {
+        Map<Long, EnrichmentRequest> unique = new LinkedHashMap<>();
+        for (EnrichmentRequest request : requests) {
+            unique.put(request.manhwaId(), request);
+        }
+        List<EnrichmentRequest> rows = new ArrayList<>(unique.values());
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp requested = Timestamp.valueOf(requestedAt);
+        Timestamp stale = Timestamp.valueOf(staleBefore);
+        jdbcTemplate.batchUpdate(ENQUEUE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.manhwaId());
+            ps.setString(2, row.titleHint());
+            ps.setTimestamp(3, requested);
+            ps.setTimestamp(4, stale);
+        });
+    }
+
+    public List<Claim> claim(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        Timestamp current = Timestamp.valueOf(now);
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new Claim(
+                rs.getLong("manhwa_id"),
+                rs.getString("title_hint")
+        ), Timestamp.valueOf(leaseUntil), current, current, limit);
+    }
+
+    public void markEnriched(long manhwaId, LocalDateTime enrichedAt) {
+        jdbcTemplate.update(
+                "UPDATE manhwa_enrichment_queue SET enriched_at = ?, last_error = NULL, claimed_until = NULL WHERE manhwa_id = ?",
+                Timestamp.valueOf(enrichedAt),
+                manhwaId
+        );
+    }
+
+    // Retries after retryAt; after maxAttempts the row counts as enriched until it goes stale.
+    public void markFailed(long manhwaId, String error, LocalDateTime retryAt, int maxAttempts, LocalDateTime now) {
+        jdbcTemplate.update(FAILED_SQL, error, Timestamp.valueOf(retryAt), maxAttempts, Timestamp.valueOf(now), manhwaId);
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM manhwa_enrichment_queue WHERE enriched_at IS NULL",
+                Long.class
+        );
+        return count == null ? 0L : count;
+    }
+
+    public record Claim(long manhwaId, String titleHint) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.manhwa.tracker.webtoons.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class EnrichmentStateRepository {
+    private static final String UPSERT_SQL = """
+            INSERT INTO manhwa_enrichment_state (manhwa_id, series_id, content_hash, fetched_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (manhwa_id) DO UPDATE
+               SET series_id = EXCLUDED.series_id,
+                   content_hash = EXCLUDED.content_hash,
+                   fetched_at = EXCLUDED.fetched_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EnrichmentStateRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<EnrichmentState> find(long manhwaId) {
+        List<EnrichmentState> rows = jdbcTemplate.query(
+                "SELECT series_id, content_hash, fetched_at FROM manhwa_enrichment_state WHERE manhwa_id = ?",
+                (rs, rowNum) -> new EnrichmentState(
+                        rs.getString("series_id"),
+                        rs.getString("content_hash"),
+                        rs.getTimestamp("fetched_at").toLocalDateTime()
+                ),
+                manhwaId
+        );
+        return rows.stream().findFirst();
+    }
+
+    public void save(long manhwaId, String seriesId, String contentHash, LocalDateTime fetchedAt) {
+        jdbcTemplate.update(UPSERT_SQL, manhwaId, seriesId, contentHash, Timestamp.valueOf(fetchedAt));
+    }
+
+    public record EnrichmentState(String seriesId, String contentHash, LocalDateTime fetchedAt) {
+    }
+}
@@ -2,11 +2,25 @@ package com.manhwa.tracker.webtoons.repository;
 
 import com.manhwa.tracker.webtoons.model.Manhwa;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface ManhwaRepository extends JpaRepository<Manhwa, Long> {
     // This allows us to find a manhwa by title to get its ID
     Optional<Manhwa> findByCanonicalTitle(String title);
+
+    // Creates the row unless the title exists; on a concurrent insert of the same title this waits
+    // for the other transaction and then does nothing, instead of aborting the caller's transaction.
+    @Modifying
+    @Query(value = """
+            INSERT INTO manhwas (canonical_title, created_at)
+            VALUES (:title, :createdAt)
+            ON CONFLICT (canonical_title) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("title") String title, @Param("createdAt") LocalDateTime createdAt);
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.manhwa.tracker.webtoons.repository;
+
+import com.manhwa.tracker.webtoons.model.MetricSnapshot;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+public class MetricLatestRepository {
+    // A newer snapshot shifts the current latest point into previous; an equal timestamp
+    // just overwrites the latest value and an older one is ignored.
+    private static final String UPSERT_SQL = """
+            INSERT INTO metric_latest (manhwa_id, source_id, metric_type, latest_value, latest_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (manhwa_id, source_id, metric_type) DO UPDATE
+               SET previous_value = CASE
+                                        WHEN EXCLUDED.latest_at > metric_latest.latest_at
+                                            THEN metric_latest.latest_value
+                                        ELSE metric_latest.previous_value
+                                    END,
+                   previous_at = CASE
+                                     WHEN EXCLUDED.latest_at > metric_latest.latest_at
+                                         THEN metric_latest.latest_at
+                                     ELSE metric_latest.previous_at
+                                 END,
+                   latest_value = EXCLUDED.latest_value,
+                   latest_at = EXCLUDED.latest_at
+             WHERE EXCLUDED.latest_at >= metric_latest.latest_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MetricLatestRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void upsertAll(List<MetricSnapshot> snapshots) {
+        List<MetricSnapshot> rows = snapshots.stream()
+                .filter(snapshot -> snapshot.getManhwaId() != null
+                        && snapshot.getSourceId() != null
+                        && snapshot.getMetricType() != null
+                        && snapshot.getMetricValue() != null
+                        && snapshot.getCapturedAt() != null)
+                .toList();
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, snapshot) -> {
+            ps.setLong(1, snapshot.getManhwaId());
+            ps.setInt(2, snapshot.getSourceId());
+            ps.setString(3, snapshot.getMetricType().name());
+            ps.setLong(4, snapshot.getMetricValue());
+            ps.setTimestamp(5, Timestamp.valueOf(snapshot.getCapturedAt()));
+        });
+    }
+}
@@ -40,23 +40,26 @@ public interface MetricSnapshotRepository extends JpaRepository<MetricSnapshot,
                        ELSE (l.metric_value - p.metric_value)
                                 / NULLIF(EXTRACT(EPOCH FROM (l.captured_at - p.captured_at)) / 86400.0, 0)
                    END AS rankingScore
-            FROM manhwas m
+            FROM (
+                SELECT DISTINCT ON (ml.manhwa_id)
+                       ml.manhwa_id,
+                       ml.latest_value AS metric_value,
+                       ml.latest_at AS captured_at
+                FROM metric_latest ml
+                WHERE ml.metric_type = :metricType
+                  AND (:sourceId IS NULL OR ml.source_id = :sourceId)
+                  AND ml.latest_at >= NOW() - INTERVAL '3 days'
+                ORDER BY ml.manhwa_id, ml.latest_at DESC
+            ) l
+            JOIN manhwas m ON m.id = l.manhwa_id
             JOIN LATERAL (
                 SELECT ms.metric_value, ms.captured_at
-                FROM metric_snapshots ms
-                WHERE ms.manhwa_id = m.id
-                  AND ms.metric_type = :metricType
-                  AND (:sourceId IS NULL OR ms.source_id = :sourceId)
-                ORDER BY ms.captured_at DESC
-                LIMIT 1
-            ) l ON TRUE
-            JOIN LATERAL (
-                SELECT ms.metric_value, ms.captured_at
-                FROM metric_snapshots ms
+                FROM metric_snapshot_points ms
                 WHERE ms.manhwa_id = m.id
                   AND ms.metric_type = :metricType
                   AND (:sourceId IS NULL OR ms.source_id = :sourceId)
                   AND ms.captured_at < l.captured_at
+                  AND ms.captured_at >= l.captured_at - make_interval(days => GREATEST(:windowDays * 3, 30))
                 ORDER BY ABS(EXTRACT(EPOCH FROM ((l.captured_at - make_interval(days => :windowDays)) - ms.captured_at))) ASC,
                          ms.captured_at DESC
                 LIMIT 1
@@ -82,13 +85,21 @@ public interface MetricSnapshotRepository extends JpaRepository<MetricSnapshot,
                          END
                 LIMIT 1
             ) r ON TRUE
-            WHERE l.captured_at >= NOW() - INTERVAL '3 days'
-              AND (:minPreviousValue IS NULL OR p.metric_value >= :minPreviousValue)
+            WHERE (:minPreviousValue IS NULL OR p.metric_value >= :minPreviousValue)
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM manhwa_genres mg
+                  WHERE mg.manhwa_id = m.id
+                    AND mg.genre_id = ANY(CAST(:excludedGenreIds AS integer[]))
+              )
               AND (
-                  m.genre IS NULL
-                  OR :excludedGenresRegex IS NULL
-                  OR :excludedGenresRegex = ''
-                  OR m.genre !~* :excludedGenresRegex
+                  cardinality(CAST(:includedGenreIds AS integer[])) = 0
+                  OR EXISTS (
+                      SELECT 1
+                      FROM manhwa_genres mg
+                      WHERE mg.manhwa_id = m.id
+                        AND mg.genre_id = ANY(CAST(:includedGenreIds AS integer[]))
+                  )
               )
               AND EXTRACT(EPOCH FROM (l.captured_at - p.captured_at)) >= 21600
             ORDER BY CASE
@@ -110,7 +121,8 @@ public interface MetricSnapshotRepository extends JpaRepository<MetricSnapshot,
             @Param("sourceId") Integer sourceId,
             @Param("limit") int limit,
             @Param("rankingMode") String rankingMode,
-            @Param("excludedGenresRegex") String excludedGenresRegex,
+            @Param("includedGenreIds") String includedGenreIds,
+            @Param("excludedGenreIds") String excludedGenreIds,
             @Param("minPreviousValue") Long minPreviousValue,
             @Param("windowDays") int windowDays
     );
@@ -130,16 +142,18 @@ public interface MetricSnapshotRepository extends JpaRepository<MetricSnapshot,
                    NULL::double precision AS growthPerDay,
                    NULL::double precision AS growthPercent,
                    l.metric_value::double precision AS rankingScore
-            FROM manhwas m
-            JOIN LATERAL (
-                SELECT ms.metric_value, ms.captured_at
-                FROM metric_snapshots ms
-                WHERE ms.manhwa_id = m.id
-                  AND ms.metric_type = :metricType
-                  AND (:sourceId IS NULL OR ms.source_id = :sourceId)
-                ORDER BY ms.captured_at DESC
-                LIMIT 1
-            ) l ON TRUE
+            FROM (
+                SELECT DISTINCT ON (ml.manhwa_id)
+                       ml.manhwa_id,
+                       ml.latest_value AS metric_value,
+                       ml.latest_at AS captured_at
+                FROM metric_latest ml
+                WHERE ml.metric_type = :metricType
+                  AND (:sourceId IS NULL OR ml.source_id = :sourceId)
+                  AND ml.latest_at >= NOW() - INTERVAL '3 days'
+                ORDER BY ml.manhwa_id, ml.latest_at DESC
+            ) l
+            JOIN manhwas m ON m.id = l.manhwa_id
             LEFT JOIN LATERAL (
                 SELECT COALESCE(NULLIF(mei.url, ''), CASE WHEN mei.external_id LIKE 'http%' THEN mei.external_id ELSE NULL END) AS read_url
                 FROM manhwa_external_ids mei
@@ -161,12 +175,20 @@ public interface MetricSnapshotRepository extends JpaRepository<MetricSnapshot,
                          END
                 LIMIT 1
             ) r ON TRUE
-            WHERE l.captured_at >= NOW() - INTERVAL '3 days'
+            WHERE NOT EXISTS (
+                  SELECT 1
+                  FROM manhwa_genres mg
+                  WHERE mg.manhwa_id = m.id
+                    AND mg.genre_id = ANY(CAST(:excludedGenreIds AS integer[]))
+              )
               AND (
-                  m.genre IS NULL
-                  OR :excludedGenresRegex IS NULL
-                  OR :excludedGenresRegex = ''
-                  OR m.genre !~* :excludedGenresRegex
+                  cardinality(CAST(:includedGenreIds AS integer[])) = 0
+                  OR EXISTS (
+                      SELECT 1
+                      FROM manhwa_genres mg
+                      WHERE mg.manhwa_id = m.id
+                        AND mg.genre_id = ANY(CAST(:includedGenreIds AS integer[]))
+                  )
               )
             ORDER BY l.metric_value DESC, l.captured_at DESC
             LIMIT :limit
@@ -175,7 +197,8 @@ public interface MetricSnapshotRepository extends JpaRepository<MetricSnapshot,
             @Param("metricType") String metricType,
             @Param("sourceId") Integer sourceId,
             @Param("limit") int limit,
-            @Param("excludedGenresRegex") String excludedGenresRegex
+            @Param("includedGenreIds") String includedGenreIds,
+            @Param("excludedGenreIds") String excludedGenreIds
     );
 
     @Query(value = """
@@ -193,25 +216,29 @@ public interface MetricSnapshotRepository extends JpaRepository<MetricSnapshot,
                    NULL::double precision AS growthPerDay,
                    (n.metric_value::numeric / NULLIF(d.metric_value::numeric, 0))::double precision AS growthPercent,
                    (n.metric_value::numeric / NULLIF(d.metric_value::numeric, 0))::double precision AS rankingScore
-            FROM manhwas m
-            JOIN LATERAL (
-                SELECT ms.metric_value, ms.captured_at
-                FROM metric_snapshots ms
-                WHERE ms.manhwa_id = m.id
-                  AND ms.metric_type = :numeratorMetricType
-                  AND (:sourceId IS NULL OR ms.source_id = :sourceId)
-                ORDER BY ms.captured_at DESC
-                LIMIT 1
-            ) n ON TRUE
-            JOIN LATERAL (
-                SELECT ms.metric_value, ms.captured_at
-                FROM metric_snapshots ms
-                WHERE ms.manhwa_id = m.id
-                  AND ms.metric_type = :denominatorMetricType
-                  AND (:sourceId IS NULL OR ms.source_id = :sourceId)
-                ORDER BY ms.captured_at DESC
-                LIMIT 1
-            ) d ON TRUE
+            FROM (
+                SELECT DISTINCT ON (ml.manhwa_id)
+                       ml.manhwa_id,
+                       ml.latest_value AS metric_value,
+                       ml.latest_at AS captured_at
+                FROM metric_latest ml
+                WHERE ml.metric_type = :numeratorMetricType
+                  AND (:sourceId IS NULL OR ml.source_id = :sourceId)
+                  AND ml.latest_at >= NOW() - INTERVAL '3 days'
+                ORDER BY ml.manhwa_id, ml.latest_at DESC
+            ) n
+            JOIN (
+                SELECT DISTINCT ON (ml.manhwa_id)
+                       ml.manhwa_id,
+                       ml.latest_value AS metric_value,
+                       ml.latest_at AS captured_at
+                FROM metric_latest ml
+                WHERE ml.metric_type = :denominatorMetricType
+                  AND (:sourceId IS NULL OR ml.source_id = :sourceId)
+                  AND ml.latest_at >= NOW() - INTERVAL '3 days'
+                ORDER BY ml.manhwa_id, ml.latest_at DESC
+            ) d ON d.manhwa_id = n.manhwa_id
+            JOIN manhwas m ON m.id = n.manhwa_id
             LEFT JOIN LATERAL (
                 SELECT COALESCE(NULLIF(mei.url, ''), CASE WHEN mei.external_id LIKE 'http%' THEN mei.external_id ELSE NULL END) AS read_url
                 FROM manhwa_external_ids mei
@@ -233,14 +260,21 @@ public interface MetricSnapshotRepository extends JpaRepository<MetricSnapshot,
                          END
                 LIMIT 1
             ) r ON TRUE
-            WHERE n.captured_at >= NOW() - INTERVAL '3 days'
-              AND d.captured_at >= NOW() - INTERVAL '3 days'
-              AND d.metric_value > 0
+            WHERE d.metric_value > 0
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM manhwa_genres mg
+                  WHERE mg.manhwa_id = m.id
+                    AND mg.genre_id = ANY(CAST(:excludedGenreIds AS integer[]))
+              )
               AND (
-                  m.genre IS NULL
-                  OR :excludedGenresRegex IS NULL
-                  OR :excludedGenresRegex = ''
-                  OR m.genre !~* :excludedGenresRegex
+                  cardinality(CAST(:includedGenreIds AS integer[])) = 0
+                  OR EXISTS (
+                      SELECT 1
+                      FROM manhwa_genres mg
+                      WHERE mg.manhwa_id = m.id
+                        AND mg.genre_id = ANY(CAST(:includedGenreIds AS integer[]))
+                  )
               )
             ORDER BY (n.metric_value::numeric / NULLIF(d.metric_value::numeric, 0)) DESC,
                      n.metric_value DESC
@@ -251,7 +285,8 @@ public interface MetricSnapshotRepository extends JpaRepository<MetricSnapshot,
             @Param("denominatorMetricType") String denominatorMetricType,
             @Param("sourceId") Integer sourceId,
             @Param("limit") int limit,
-            @Param("excludedGenresRegex") String excludedGenresRegex
+            @Param("includedGenreIds") String includedGenreIds,
+            @Param("excludedGenreIds") String excludedGenreIds
     );
 
     @Query(value = """
@@ -276,33 +311,170 @@ public interface MetricSnapshotRepository extends JpaRepository<MetricSnapshot,
                        ((p.metric_value - q.metric_value)
                            / NULLIF(EXTRACT(EPOCH FROM (p.captured_at - q.captured_at)) / 86400.0, 0))
                    ) AS rankingScore
-            FROM manhwas m
+            FROM (
+                SELECT DISTINCT ON (ml.manhwa_id)
+                       ml.manhwa_id,
+                       ml.latest_value AS metric_value,
+                       ml.latest_at AS captured_at
+                FROM metric_latest ml
+                WHERE ml.metric_type = :metricType
+                  AND (:sourceId IS NULL OR ml.source_id = :sourceId)
+                  AND ml.latest_at >= NOW() - INTERVAL '3 days'
+                ORDER BY ml.manhwa_id, ml.latest_at DESC
+            ) l
+            JOIN manhwas m ON m.id = l.manhwa_id
             JOIN LATERAL (
                 SELECT ms.metric_value, ms.captured_at
-                FROM metric_snapshots ms
+                FROM metric_snapshot_points ms
                 WHERE ms.manhwa_id = m.id
                   AND ms.metric_type = :metricType
                   AND (:sourceId IS NULL OR ms.source_id = :sourceId)
+                  AND ms.captured_at <= l.captured_at - INTERVAL '1 hour'
+                  AND ms.captured_at >= l.captured_at - INTERVAL '30 days'
                 ORDER BY ms.captured_at DESC
                 LIMIT 1
-            ) l ON TRUE
+            ) p ON TRUE
             JOIN LATERAL (
                 SELECT ms.metric_value, ms.captured_at
-                FROM metric_snapshots ms
+                FROM metric_snapshot_points ms
+                WHERE ms.manhwa_id = m.id
+                  AND ms.metric_type = :metricType
+                  AND (:sourceId IS NULL OR ms.source_id = :sourceId)
+                  AND ms.captured_at <= p.captured_at - INTERVAL '1 hour'
+                  AND ms.captured_at >= p.captured_at - INTERVAL '30 days'
+                ORDER BY ms.captured_at DESC
+                LIMIT 1
+            ) q ON TRUE
+            LEFT JOIN LATERAL (
+                SELECT COALESCE(NULLIF(mei.url, ''), CASE WHEN mei.external_id LIKE 'http%' THEN mei.external_id ELSE NULL END) AS read_url
+                FROM manhwa_external_ids mei
+                WHERE mei.manhwa_id = m.id
+                  AND (
+                      (:sourceId = 1 AND mei.source = 'WEBTOONS')
+                      OR (:sourceId = 2 AND mei.source = 'ASURA')
+                      OR (:sourceId = 3 AND mei.source = 'TAPAS')
+                      OR (
+                          :sourceId IS NULL
+                          AND mei.source IN ('WEBTOONS', 'ASURA', 'TAPAS')
+                      )
+                  )
+                ORDER BY CASE mei.source
+                             WHEN 'WEBTOONS' THEN 1
+                             WHEN 'ASURA' THEN 2
+                             WHEN 'TAPAS' THEN 3
+                             ELSE 99
+                         END
+                LIMIT 1
+            ) r ON TRUE
+            WHERE NOT EXISTS (
+                  SELECT 1
+                  FROM manhwa_genres mg
+                  WHERE mg.manhwa_id = m.id
+                    AND mg.genre_id = ANY(CAST(:excludedGenreIds AS integer[]))
+              )
+              AND (
+                  cardinality(CAST(:includedGenreIds AS integer[])) = 0
+                  OR EXISTS (
+                      SELECT 1
+                      FROM manhwa_genres mg
+                      WHERE mg.manhwa_id = m.id
+                        AND mg.genre_id = ANY(CAST(:includedGenreIds AS integer[]))
+                  )
+              )
+            ORDER BY rankingScore DESC, growth DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TrendingProjection> findTrendingAcceleration(
+            @Param("metricType") String metricType,
+            @Param("sourceId") Integer sourceId,
+            @Param("limit") int limit,
+            @Param("includedGenreIds") String includedGenreIds,
+            @Param("excludedGenreIds") String excludedGenreIds
+    );
+
+    // One row per recent title with the DAILY and WEEKLY growth baselines and the two
+    // acceleration points, so several boards can be ranked from a single scan.
+    // manhwaIds is an int8[] literal; '{}' loads every title.
+    @Query(value = """
+            SELECT m.id AS manhwaId,
+                   m.canonical_title AS title,
+                   m.genre AS genre,
+                   COALESCE(NULLIF(m.cover_image_url, ''), '/images/cover-fallback.svg') AS coverImageUrl,
+                   r.read_url AS readUrl,
+                   l.metric_value AS latestValue,
+                   l.captured_at AS latestAt,
+                   d.metric_value AS dailyValue,
+                   d.captured_at AS dailyAt,
+                   w.metric_value AS weeklyValue,
+                   w.captured_at AS weeklyAt,
+                   p.metric_value AS accelPreviousValue,
+                   p.captured_at AS accelPreviousAt,
+                   q.metric_value AS accelPriorValue,
+                   q.captured_at AS accelPriorAt,
+                   (
+                       SELECT string_agg(mg.genre_id::text, ',')
+                       FROM manhwa_genres mg
+                       WHERE mg.manhwa_id = m.id
+                   ) AS genreIds
+            FROM (
+                SELECT DISTINCT ON (ml.manhwa_id)
+                       ml.manhwa_id,
+                       ml.latest_value AS metric_value,
+                       ml.latest_at AS captured_at
+                FROM metric_latest ml
+                WHERE ml.metric_type = :metricType
+                  AND (:sourceId IS NULL OR ml.source_id = :sourceId)
+                  AND ml.latest_at >= NOW() - INTERVAL '3 days'
+                  AND (
+                      cardinality(CAST(:manhwaIds AS bigint[])) = 0
+                      OR ml.manhwa_id = ANY(CAST(:manhwaIds AS bigint[]))
+                  )
+                ORDER BY ml.manhwa_id, ml.latest_at DESC
+            ) l
+            JOIN manhwas m ON m.id = l.manhwa_id
+            LEFT JOIN LATERAL (
+                SELECT ms.metric_value, ms.captured_at
+                FROM metric_snapshot_points ms
+                WHERE ms.manhwa_id = m.id
+                  AND ms.metric_type = :metricType
+                  AND (:sourceId IS NULL OR ms.source_id = :sourceId)
+                  AND ms.captured_at < l.captured_at
+                  AND ms.captured_at >= l.captured_at - make_interval(days => GREATEST(:dailyDays * 3, 30))
+                ORDER BY ABS(EXTRACT(EPOCH FROM ((l.captured_at - make_interval(days => :dailyDays)) - ms.captured_at))) ASC,
+                         ms.captured_at DESC
+                LIMIT 1
+            ) d ON TRUE
+            LEFT JOIN LATERAL (
+                SELECT ms.metric_value, ms.captured_at
+                FROM metric_snapshot_points ms
+                WHERE ms.manhwa_id = m.id
+                  AND ms.metric_type = :metricType
+                  AND (:sourceId IS NULL OR ms.source_id = :sourceId)
+                  AND ms.captured_at < l.captured_at
+                  AND ms.captured_at >= l.captured_at - make_interval(days => GREATEST(:weeklyDays * 3, 30))
+                ORDER BY ABS(EXTRACT(EPOCH FROM ((l.captured_at - make_interval(days => :weeklyDays)) - ms.captured_at))) ASC,
+                         ms.captured_at DESC
+                LIMIT 1
+            ) w ON TRUE
+            LEFT JOIN LATERAL (
+                SELECT ms.metric_value, ms.captured_at
+                FROM metric_snapshot_points ms
                 WHERE ms.manhwa_id = m.id
                   AND ms.metric_type = :metricType
                   AND (:sourceId IS NULL OR ms.source_id = :sourceId)
                   AND ms.captured_at <= l.captured_at - INTERVAL '1 hour'
+                  AND ms.captured_at >= l.captured_at - INTERVAL '30 days'
                 ORDER BY ms.captured_at DESC
                 LIMIT 1
             ) p ON TRUE
-            JOIN LATERAL (
+            LEFT JOIN LATERAL (
                 SELECT ms.metric_value, ms.captured_at
-                FROM metric_snapshots ms
+                FROM metric_snapshot_points ms
                 WHERE ms.manhwa_id = m.id
                   AND ms.metric_type = :metricType
                   AND (:sourceId IS NULL OR ms.source_id = :sourceId)
                   AND ms.captured_at <= p.captured_at - INTERVAL '1 hour'
+                  AND ms.captured_at >= p.captured_at - INTERVAL '30 days'
                 ORDER BY ms.captured_at DESC
                 LIMIT 1
             ) q ON TRUE
@@ -327,20 +499,19 @@ public interface MetricSnapshotRepository extends JpaRepository<MetricSnapshot,
                          END
                 LIMIT 1
             ) r ON TRUE
-            WHERE l.captured_at >= NOW() - INTERVAL '3 days'
-              AND (
-                  m.genre IS NULL
-                  OR :excludedGenresRegex IS NULL
-                  OR :excludedGenresRegex = ''
-                  OR m.genre !~* :excludedGenresRegex
+            WHERE NOT EXISTS (
+                  SELECT 1
+                  FROM manhwa_genres mg
+                  WHERE mg.manhwa_id = m.id
+                    AND mg.genre_id = ANY(CAST(:excludedGenreIds AS integer[]))
               )
-            ORDER BY rankingScore DESC, growth DESC
-            LIMIT :limit
             """, nativeQuery = true)
-    List<TrendingProjection> findTrendingAcceleration(
+    List<RankingWorkingSetProjection> findRankingWorkingSet(
             @Param("metricType") String metricType,
             @Param("sourceId") Integer sourceId,
-            @Param("limit") int limit,
-            @Param("excludedGenresRegex") String excludedGenresRegex
+            @Param("excludedGenreIds") String excludedGenreIds,
+            @Param("manhwaIds") String manhwaIds,
+            @Param("dailyDays") int dailyDays,
+            @Param("weeklyDays") int weeklyDays
     );
 }
@@ -0,0 +1,133 @@
+package com.manhwa.tracker.webtoons.repository;
+
+import java.time.LocalDateTime;
+
+public record RankingRow(
+        Long manhwaId,
+        String title,
+        String genre,
+        String coverImageUrl,
+        String readUrl,
+        Long latestValue,
+        LocalDateTime latestAt,
+        Long previousValue,
+        LocalDateTime previousAt,
+        Long growth,
+        Double baselineDays,
+        Double growthPerDay,
+        Double growthPercent,
+        Double rankingScore
+) implements TrendingProjection {
+
+    // Detaches a query projection so it can outlive the persistence context that produced it.
+    public static RankingRow copyOf(TrendingProjection row) {
+        if (row instanceof RankingRow rankingRow) {
+            return rankingRow;
+        }
+        return new RankingRow(
+                row.getManhwaId(),
+                row.getTitle(),
+                row.getGenre(),
+                row.getCoverImageUrl(),
+                row.getReadUrl(),
+                row.getLatestValue(),
+                row.getLatestAt(),
+                row.getPreviousValue(),
+                row.getPreviousAt(),
+                row.getGrowth(),
+                row.getBaselineDays(),
+                row.getGrowthPerDay(),
+                row.getGrowthPercent(),
+                row.getRankingScore()
+        );
+    }
+
+    public RankingRow withRankingScore(Double score) {
+        return new RankingRow(
+                manhwaId,
+                title,
+                genre,
+                coverImageUrl,
+                readUrl,
+                latestValue,
+                latestAt,
+                previousValue,
+                previousAt,
+                growth,
+                baselineDays,
+                growthPerDay,
+                growthPercent,
+                score
+        );
+    }
+
+    @Override
+    public Long getManhwaId() {
+        return manhwaId;
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+
+    @Override
+    public String getGenre() {
+        return genre;
+    }
+
+    @Override
+    public String getCoverImageUrl() {
+        return coverImageUrl;
+    }
+
+    @Override
+    public String getReadUrl() {
+        return readUrl;
+    }
+
+    @Override
+    public Long getLatestValue() {
+        return latestValue;
+    }
+
+    @Override
+    public LocalDateTime getLatestAt() {
+        return latestAt;
+    }
+
+    @Override
+    public Long getPreviousValue() {
+        return previousValue;
+    }
+
+    @Override
+    public LocalDateTime getPreviousAt() {
+        return previousAt;
+    }
+
+    @Override
+    public Long getGrowth() {
+        return growth;
+    }
+
+    @Override
+    public Double getBaselineDays() {
+        return baselineDays;
+    }
+
+    @Override
+    public Double getGrowthPerDay() {
+        return growthPerDay;
+    }
+
+    @Override
+    public Double getGrowthPercent() {
+        return growthPercent;
+    }
+
+    @Override
+    public Double getRankingScore() {
+        return rankingScore;
+    }
+}
@@ -0,0 +1,22 @@
+package com.manhwa.tracker.webtoons.repository;
+
+import java.time.LocalDateTime;
+
+public interface RankingWorkingSetProjection {
+    Long getManhwaId();
+    String getTitle();
+    String getGenre();
+    String getCoverImageUrl();
+    String getReadUrl();
+    Long getLatestValue();
+    LocalDateTime getLatestAt();
+    Long getDailyValue();
+    LocalDateTime getDailyAt();
+    Long getWeeklyValue();
+    LocalDateTime getWeeklyAt();
+    Long getAccelPreviousValue();
+    LocalDateTime getAccelPreviousAt();
+    Long getAccelPriorValue();
+    LocalDateTime getAccelPriorAt();
+    String getGenreIds();
+}
@@ -0,0 +1,219 @@
+package com.manhwa.tracker.webtoons.repository;
+
+import com.manhwa.tracker.webtoons.model.ScrapeResult.AliasWrite;
+import com.manhwa.tracker.webtoons.model.ScrapeResult.CoverCandidateWrite;
+import com.manhwa.tracker.webtoons.model.ScrapeResult.ExternalIdWrite;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Chunk-level side-effect writes for the scrape steps. Each method is one JDBC batch (external ids
+// take an insert and an update batch); rows are de-duplicated first so a statement never touches
+// the same key twice.
+@Repository
+public class ScrapeWriteRepository {
+    // Same rules as the old per-item find/save: a (manhwa, source) row is updated in place, and
+    // an external id already linked to a different manhwa is left alone. The insert has no
+    // conflict target, so a row racing in from another chunk on either unique key
+    // (uk_external_id_source_value, uk_external_id_manhwa_source) is skipped, not an error.
+    private static final String INSERT_EXTERNAL_ID_SQL = """
+            INSERT INTO manhwa_external_ids (manhwa_id, source, external_id, url)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String UPDATE_EXTERNAL_ID_SQL = """
+            WITH v (manhwa_id, source, external_id, url) AS (
+                VALUES (?, ?, ?, ?)
+            )
+            UPDATE manhwa_external_ids e
+               SET external_id = v.external_id,
+                   url = v.url
+              FROM v
+             WHERE e.manhwa_id = v.manhwa_id
+               AND e.source = v.source
+               AND (e.external_id IS DISTINCT FROM v.external_id OR e.url IS DISTINCT FROM v.url)
+               AND NOT EXISTS (
+                   SELECT 1
+                   FROM manhwa_external_ids o
+                   WHERE o.source = v.source
+                     AND o.external_id = v.external_id
+                     AND o.manhwa_id <> v.manhwa_id
+               )
+            """;
+
+    // uk_manhwa_titles_identity treats NULL languages as distinct, hence the explicit check.
+    private static final String ALIAS_SQL = """
+            WITH v (manhwa_id, title, normalized_title, source, language) AS (
+                VALUES (?, ?, ?, ?, CAST(? AS varchar))
+            )
+            INSERT INTO manhwa_titles (manhwa_id, title, normalized_title, source, language, canonical)
+            SELECT v.manhwa_id, v.title, v.normalized_title, v.source, v.language, FALSE
+            FROM v
+            WHERE NOT EXISTS (
+                SELECT 1
+                FROM manhwa_titles mt
+                WHERE mt.manhwa_id = v.manhwa_id
+                  AND mt.normalized_title = v.normalized_title
+                  AND mt.source = v.source
+                  AND mt.language IS NOT DISTINCT FROM v.language
+            )
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String COVER_CANDIDATE_SQL = """
+            INSERT INTO manhwa_cover_candidates (manhwa_id, source, image_url, quality_score, width, height, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (manhwa_id, source) DO UPDATE
+               SET image_url = EXCLUDED.image_url,
+                   quality_score = EXCLUDED.quality_score,
+                   width = EXCLUDED.width,
+                   height = EXCLUDED.height,
+                   updated_at = EXCLUDED.updated_at
+            """;
+
+    // Highest quality score wins, ties go to the most recently updated candidate.
+    private static final String SELECT_BEST_COVER_SQL = """
+            UPDATE manhwas m
+               SET cover_image_url = best.image_url
+              FROM (
+                    SELECT DISTINCT ON (manhwa_id) manhwa_id, image_url
+                    FROM manhwa_cover_candidates
+                    WHERE manhwa_id = ANY(?)
+                    ORDER BY manhwa_id, quality_score DESC, updated_at DESC
+                   ) best
+             WHERE m.id = best.manhwa_id
+               AND m.cover_image_url IS DISTINCT FROM best.image_url
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ScrapeWriteRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void upsertExternalIds(List<ExternalIdWrite> writes) {
+        // Last write per (manhwa, source) wins; the first manhwa to claim an external id keeps it.
+        Map<String, ExternalIdWrite> byManhwaSource = new LinkedHashMap<>();
+        for (ExternalIdWrite write : writes) {
+            byManhwaSource.put(write.manhwaId() + "|" + write.source(), write);
+        }
+        Map<String, ExternalIdWrite> byExternalId = new LinkedHashMap<>();
+        for (ExternalIdWrite write : byManhwaSource.values()) {
+            byExternalId.putIfAbsent(write.source() + "|" + write.externalId(), write);
+        }
+        List<ExternalIdWrite> rows = new ArrayList<>(byExternalId.values());
+        if (rows.isEmpty()) {
+            return;
+        }
+        int[] inserted = jdbcTemplate.batchUpdate(INSERT_EXTERNAL_ID_SQL, rows, rows.size(),
+                ScrapeWriteRepository::bindExternalId)[0];
+        // Rows not inserted (or whose count the driver does not report) may update an existing link.
+        List<ExternalIdWrite> existing = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (inserted[i] <= 0) {
+                existing.add(rows.get(i));
+            }
+        }
+        if (existing.isEmpty()) {
+            return;
+        }
+        // An update can still collide with an external id another chunk has just inserted; that
+        // would abort the whole chunk on Postgres, so the batch runs under a savepoint and, if it
+        // fails, each row is retried under its own and the losers are skipped with a WARN.
+        if (inSavepoint(() -> jdbcTemplate.batchUpdate(UPDATE_EXTERNAL_ID_SQL, existing, existing.size(),
+                ScrapeWriteRepository::bindExternalId))) {
+            return;
+        }
+        for (ExternalIdWrite row : existing) {
+            if (!inSavepoint(() -> jdbcTemplate.update(UPDATE_EXTERNAL_ID_SQL,
+                    ps -> bindExternalId(ps, row)))) {
+                System.out.println("WARN: Could not update " + row.source() + " external ID for manhwaId="
+                        + row.manhwaId() + " externalId=" + row.externalId() + " : already linked to another manhwa");
+            }
+        }
+    }
+
+    public void insertAliases(List<AliasWrite> writes) {
+        Map<String, AliasWrite> unique = new LinkedHashMap<>();
+        for (AliasWrite write : writes) {
+            unique.putIfAbsent(write.manhwaId() + "|" + write.normalizedTitle() + "|" + write.source()
+                    + "|" + write.language(), write);
+        }
+        List<AliasWrite> rows = new ArrayList<>(unique.values());
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ALIAS_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.manhwaId());
+            ps.setString(2, row.title());
+            ps.setString(3, row.normalizedTitle());
+            ps.setString(4, row.source().name());
+            ps.setObject(5, row.language(), Types.VARCHAR);
+        });
+    }
+
+    public void upsertCoverCandidates(List<CoverCandidateWrite> writes, LocalDateTime updatedAt) {
+        Map<String, CoverCandidateWrite> unique = new LinkedHashMap<>();
+        for (CoverCandidateWrite write : writes) {
+            unique.put(write.manhwaId() + "|" + write.source(), write);
+        }
+        List<CoverCandidateWrite> rows = new ArrayList<>(unique.values());
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        jdbcTemplate.batchUpdate(COVER_CANDIDATE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.manhwaId());
+            ps.setString(2, row.source().name());
+            ps.setString(3, row.imageUrl());
+            ps.setInt(4, row.qualityScore());
+            ps.setObject(5, row.width(), Types.INTEGER);
+            ps.setObject(6, row.height(), Types.INTEGER);
+            ps.setTimestamp(7, timestamp);
+        });
+    }
+
+    private static void bindExternalId(PreparedStatement ps, ExternalIdWrite row) throws SQLException {
+        ps.setLong(1, row.manhwaId());
+        ps.setString(2, row.source().name());
+        ps.setString(3, row.externalId());
+        ps.setString(4, row.url());
+    }
+
+    // Runs the writes under a savepoint of the chunk transaction's connection; on a constraint
+    // violation only they are rolled back and false is returned.
+    private boolean inSavepoint(Runnable writes) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                writes.run();
+            } catch (DataIntegrityViolationException ex) {
+                connection.rollback(savepoint);
+                return false;
+            }
+            connection.releaseSavepoint(savepoint);
+            return true;
+        }));
+    }
+
+    public void selectBestCovers(Collection<Long> manhwaIds) {
+        if (manhwaIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(SELECT_BEST_COVER_SQL, (Object) manhwaIds.toArray(new Long[0]));
+    }
+}
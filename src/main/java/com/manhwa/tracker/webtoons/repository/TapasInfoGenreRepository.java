@@ -0,0 +1,60 @@
+package com.manhwa.tracker.webtoons.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class TapasInfoGenreRepository {
+    private static final String UPSERT_SQL = """
+            INSERT INTO tapas_info_genres (series_url, genres, fetched_at)
+            VALUES (?, ?, ?)
+            ON CONFLICT (series_url) DO UPDATE
+               SET genres = EXCLUDED.genres,
+                   fetched_at = EXCLUDED.fetched_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TapasInfoGenreRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Entries fetched at or after fetchedSince; a present key with a null value means the
+    // info page had no genres.
+    public Map<String, String> findFresh(Collection<String> seriesUrls, LocalDateTime fetchedSince) {
+        Map<String, String> found = new HashMap<>();
+        if (seriesUrls.isEmpty()) {
+            return found;
+        }
+        jdbcTemplate.query(
+                "SELECT series_url, genres FROM tapas_info_genres WHERE series_url = ANY(?) AND fetched_at >= ?",
+                rs -> {
+                    found.put(rs.getString("series_url"), rs.getString("genres"));
+                },
+                seriesUrls.toArray(new String[0]),
+                Timestamp.valueOf(fetchedSince)
+        );
+        return found;
+    }
+
+    public void upsertAll(Map<String, String> genresBySeriesUrl, LocalDateTime fetchedAt) {
+        if (genresBySeriesUrl.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, String>> rows = new ArrayList<>(genresBySeriesUrl.entrySet());
+        Timestamp timestamp = Timestamp.valueOf(fetchedAt);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getKey());
+            ps.setString(2, row.getValue());
+            ps.setTimestamp(3, timestamp);
+        });
+    }
+}
@@ -0,0 +1,198 @@
+package com.manhwa.tracker.webtoons.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory copy of manhwa_titles (normalized_title -> manhwa_id) so title matching does not
+// hit idx_manhwa_titles_normalized per scraped item. Like the old findByNormalizedTitle().get(0)
+// lookups, the oldest alias row wins. Alias writes are applied after their transaction commits;
+// until the first load finishes, lookups fall back to the table.
+@Service
+public class AliasIndex {
+    private static final long MISSING = -1L;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private static final String LOAD_SQL = """
+            SELECT normalized_title, manhwa_id
+            FROM manhwa_titles
+            ORDER BY id
+            """;
+    private static final String FALLBACK_SQL = """
+            SELECT manhwa_id
+            FROM manhwa_titles
+            WHERE normalized_title = ?
+            ORDER BY id
+            LIMIT 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ConcurrentLinkedQueue<Entry> pendingDuringLoad = new ConcurrentLinkedQueue<>();
+    private volatile boolean loading;
+    private volatile Table table;
+
+    public AliasIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            reload();
+        } catch (Exception ex) {
+            System.out.println("WARN: Could not load alias index: " + ex.getMessage());
+        }
+    }
+
+    public void reload() {
+        long started = System.currentTimeMillis();
+        loading = true;
+        try {
+            Table[] current = {new Table(INITIAL_CAPACITY)};
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                current[0] = current[0].grownIfFull();
+                current[0].putIfAbsent(rs.getString("normalized_title"), rs.getLong("manhwa_id"));
+            });
+            lock.writeLock().lock();
+            try {
+                Table next = current[0];
+                for (Entry entry; (entry = pendingDuringLoad.poll()) != null; ) {
+                    next = next.grownIfFull();
+                    next.putIfAbsent(entry.normalized(), entry.manhwaId());
+                }
+                table = next;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            System.out.println("INFO: Alias index loaded " + table.size + " titles in "
+                    + (System.currentTimeMillis() - started) + " ms");
+        } finally {
+            loading = false;
+            pendingDuringLoad.clear();
+        }
+    }
+
+    public Long findTitle(String title) {
+        return find(TitleNormalizer.normalize(title));
+    }
+
+    public Long find(String normalized) {
+        if (normalized == null || normalized.isEmpty()) {
+            return null;
+        }
+        if (table == null) {
+            List<Long> ids = jdbcTemplate.queryForList(FALLBACK_SQL, Long.class, normalized);
+            return ids.isEmpty() ? null : ids.get(0);
+        }
+        long id;
+        lock.readLock().lock();
+        try {
+            id = table.get(normalized);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return id == MISSING ? null : id;
+    }
+
+    // Call after saving a manhwa_titles row; applied once the surrounding transaction commits.
+    public void add(String normalized, Long manhwaId) {
+        if (normalized == null || normalized.isEmpty() || manhwaId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(normalized, manhwaId);
+                }
+            });
+        } else {
+            apply(normalized, manhwaId);
+        }
+    }
+
+    private void apply(String normalized, long manhwaId) {
+        if (loading) {
+            pendingDuringLoad.add(new Entry(normalized, manhwaId));
+        }
+        lock.writeLock().lock();
+        try {
+            if (table != null) {
+                table = table.grownIfFull();
+                table.putIfAbsent(normalized, manhwaId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Entry(String normalized, long manhwaId) {
+    }
+
+    // Open-addressing string -> long map with linear probing; kept at most 3/4 full.
+    private static final class Table {
+        private final String[] keys;
+        private final long[] ids;
+        private final int mask;
+        private int size;
+
+        Table(int capacity) {
+            this.keys = new String[capacity];
+            this.ids = new long[capacity];
+            this.mask = capacity - 1;
+        }
+
+        long get(String key) {
+            for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+                String existing = keys[slot];
+                if (existing == null) {
+                    return MISSING;
+                }
+                if (existing.equals(key)) {
+                    return ids[slot];
+                }
+            }
+        }
+
+        void putIfAbsent(String key, long id) {
+            for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+                String existing = keys[slot];
+                if (existing == null) {
+                    keys[slot] = key;
+                    ids[slot] = id;
+                    size++;
+                    return;
+                }
+                if (existing.equals(key)) {
+                    return;
+                }
+            }
+        }
+
+        Table grownIfFull() {
+            if ((size + 1) * 4L <= keys.length * 3L) {
+                return this;
+            }
+            Table grown = new Table(keys.length << 1);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    grown.putIfAbsent(keys[i], ids[i]);
+                }
+            }
+            return grown;
+        }
+
+        private int slotOf(String key) {
+            int h = key.hashCode();
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+}
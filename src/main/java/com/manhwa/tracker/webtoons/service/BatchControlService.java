@@ -32,7 +32,9 @@ public class BatchControlService {
     private static final Map<String, String> JOB_LABELS = Map.of(
             "webtoonsScrapeJob", "Webtoons Views",
             "asuraScrapeJob", "Asura Followers",
-            "tapasScrapeJob", "Tapas Metrics"
+            "tapasScrapeJob", "Tapas Metrics",
+            "snapshotCompactionJob", "Snapshot Compaction",
+            "snapshotAllSourcesJob", "All Sources Snapshot"
     );
 
     private final JobLauncher jobLauncher;
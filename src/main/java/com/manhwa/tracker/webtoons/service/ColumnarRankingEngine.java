@@ -0,0 +1,123 @@
+package com.manhwa.tracker.webtoons.service;
+
+import com.manhwa.tracker.webtoons.model.MetricType;
+import com.manhwa.tracker.webtoons.model.RankingWindow;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// Builds ranking working sets from SnapshotColumnStore using the same baseline rules as the
+// native queries in MetricSnapshotRepository, without touching Postgres.
+@Component
+public class ColumnarRankingEngine {
+    private static final long FRESH_SECONDS = RankingWorkingSet.FRESH_DAYS * RankingWorkingSet.DAY_SECONDS;
+    private static final long ACCELERATION_GAP_SECONDS = 3_600L;
+    private static final long ACCELERATION_LOOKBACK_SECONDS = RankingWorkingSet.BASELINE_LOOKBACK_DAYS * RankingWorkingSet.DAY_SECONDS;
+
+    private final SnapshotColumnStore store;
+
+    public ColumnarRankingEngine(SnapshotColumnStore store) {
+        this.store = store;
+    }
+
+    public boolean isEnabled() {
+        return store.isEnabled();
+    }
+
+    public void refreshCatalog() {
+        store.refreshCatalog();
+    }
+
+    RankingWorkingSet workingSet(MetricType metricType, Integer sourceId) {
+        return workingSet(metricType, sourceId, null);
+    }
+
+    // onlyIds == null scans every row; otherwise only those titles are added.
+    RankingWorkingSet workingSet(MetricType metricType, Integer sourceId, Set<Long> onlyIds) {
+        return store.read(columns -> {
+            if (columns == null) {
+                return new RankingWorkingSet(0);
+            }
+            int code = columns.code(sourceId, metricType);
+            if (code < 0) {
+                return new RankingWorkingSet(0);
+            }
+            long freshSince = RankingWorkingSet.toEpoch(LocalDateTime.now()) - FRESH_SECONDS;
+            if (onlyIds == null) {
+                int rows = columns.rowCount();
+                RankingWorkingSet set = new RankingWorkingSet(Math.min(rows, 4096));
+                for (int row = 0; row < rows; row++) {
+                    addRow(set, columns, code, row, sourceId, freshSince);
+                }
+                return set;
+            }
+            RankingWorkingSet set = new RankingWorkingSet(onlyIds.size());
+            for (long manhwaId : onlyIds) {
+                int row = columns.rowOf(manhwaId);
+                if (row >= 0) {
+                    addRow(set, columns, code, row, sourceId, freshSince);
+                }
+            }
+            return set;
+        });
+    }
+
+    private void addRow(
+            RankingWorkingSet set,
+            SnapshotColumnStore.Columns columns,
+            int code,
+            int row,
+            Integer sourceId,
+            long freshSince
+    ) {
+        SnapshotColumnStore.Series series = columns.series(code, row);
+        if (series == null || series.size == 0 || !columns.isRankable(row)) {
+            return;
+        }
+        int latest = series.lastIndex();
+        long latestAt = series.epochs[latest];
+        if (latestAt < freshSince) {
+            return;
+        }
+        int index = set.add(
+                columns.manhwaId(row),
+                columns.title(row),
+                columns.genre(row),
+                columns.cover(row),
+                columns.readUrl(sourceId, row),
+                columns.genreBits(row),
+                series.values[latest],
+                latestAt
+        );
+        for (RankingWindow window : RankingWindow.values()) {
+            long windowSeconds = window.days() * RankingWorkingSet.DAY_SECONDS;
+            long lookbackSeconds = Math.max(window.days() * 3L, RankingWorkingSet.BASELINE_LOOKBACK_DAYS) * RankingWorkingSet.DAY_SECONDS;
+            int baseline = series.closestBefore(latestAt - windowSeconds, latestAt - lookbackSeconds, latestAt);
+            if (baseline >= 0) {
+                set.setBaseline(index, window, series.values[baseline], series.epochs[baseline]);
+            }
+        }
+        int previous = series.latestBetween(
+                latestAt - ACCELERATION_LOOKBACK_SECONDS,
+                latestAt - ACCELERATION_GAP_SECONDS
+        );
+        if (previous < 0) {
+            return;
+        }
+        long previousAt = series.epochs[previous];
+        int prior = series.latestBetween(
+                previousAt - ACCELERATION_LOOKBACK_SECONDS,
+                previousAt - ACCELERATION_GAP_SECONDS
+        );
+        if (prior >= 0) {
+            set.setAcceleration(
+                    index,
+                    series.values[previous],
+                    previousAt,
+                    series.values[prior],
+                    series.epochs[prior]
+            );
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.manhwa.tracker.webtoons.service;
 
 import com.manhwa.tracker.webtoons.model.Manhwa;
 import com.manhwa.tracker.webtoons.model.ManhwaCoverCandidate;
+import com.manhwa.tracker.webtoons.model.ScrapeResult;
 import com.manhwa.tracker.webtoons.model.TitleSource;
 import com.manhwa.tracker.webtoons.repository.ManhwaCoverCandidateRepository;
 import com.manhwa.tracker.webtoons.repository.ManhwaRepository;
@@ -27,6 +28,24 @@ public class CoverSelectionService {
         this.manhwaRepository = manhwaRepository;
     }
 
+    // Scored candidate for ScrapeResultWriter to flush with the rest of the chunk; null if there is no image.
+    public ScrapeResult.CoverCandidateWrite candidateFor(Long manhwaId, TitleSource source, String imageUrl, boolean selectBest) {
+        if (manhwaId == null || source == null || imageUrl == null || imageUrl.isBlank()) {
+            return null;
+        }
+        String normalizedUrl = imageUrl.trim();
+        int[] dimensions = parseDimensions(normalizedUrl);
+        return new ScrapeResult.CoverCandidateWrite(
+                manhwaId,
+                source,
+                normalizedUrl,
+                scoreCover(source, normalizedUrl),
+                dimensions[0] > 0 ? dimensions[0] : null,
+                dimensions[1] > 0 ? dimensions[1] : null,
+                selectBest
+        );
+    }
+
     public void upsertCoverCandidate(Long manhwaId, TitleSource source, String imageUrl) {
         if (manhwaId == null || source == null || imageUrl == null || imageUrl.isBlank()) {
             return;
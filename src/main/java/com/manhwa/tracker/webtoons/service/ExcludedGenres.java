@@ -0,0 +1,67 @@
+package com.manhwa.tracker.webtoons.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// app.ranking.excluded-genres compiled once; GenreIndexService applies it to genre names
+// to build the excluded genre-id mask.
+@Component
+public class ExcludedGenres {
+    private final Pattern pattern;
+
+    public ExcludedGenres(@Value("${app.ranking.excluded-genres:}") String excludedGenres) {
+        List<List<String>> genres = parse(excludedGenres);
+        String regex = join(genres, "[\\s-]*");
+        this.pattern = regex == null ? null : Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+    }
+
+    public boolean isExcluded(String genre) {
+        return pattern != null && genre != null && pattern.matcher(genre).find();
+    }
+
+    private List<List<String>> parse(String excludedGenres) {
+        if (excludedGenres == null || excludedGenres.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(excludedGenres.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .map(this::toGenreParts)
+                .filter(parts -> !parts.isEmpty())
+                .toList();
+    }
+
+    private List<String> toGenreParts(String genre) {
+        List<String> parts = Arrays.stream(genre.split("[\\s-]+"))
+                .map(this::sanitizeGenreToken)
+                .filter(token -> !token.isBlank())
+                .toList();
+        if (parts.isEmpty()) {
+            String whole = sanitizeGenreToken(genre);
+            return whole.isBlank() ? List.of() : List.of(whole);
+        }
+        return parts;
+    }
+
+    private String join(List<List<String>> genres, String separator) {
+        if (genres.isEmpty()) {
+            return null;
+        }
+        List<String> patterns = genres.stream()
+                .map(parts -> String.join(separator, parts))
+                .toList();
+        return "(" + String.join("|", patterns) + ")";
+    }
+
+    private String sanitizeGenreToken(String value) {
+        if (value == null || value.isBlank()) {
+            return "";
+        }
+        // Keep alnum tokens only so configured names never inject regex syntax.
+        return value.toLowerCase().replaceAll("[^a-z0-9]+", "");
+    }
+}
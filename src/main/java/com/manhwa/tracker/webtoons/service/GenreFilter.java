@@ -0,0 +1,99 @@
+package com.manhwa.tracker.webtoons.service;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+// Genre-id bitmasks for one request: a title passes when it carries none of the excluded
+// genres and, if an include filter was given, at least one of the included ones.
+public final class GenreFilter {
+    private static final long[] EMPTY = new long[0];
+
+    private final long[] include;
+    private final long[] exclude;
+
+    GenreFilter(long[] include, long[] exclude) {
+        this.include = include;
+        this.exclude = exclude == null ? EMPTY : exclude;
+    }
+
+    public boolean hasInclude() {
+        return include != null;
+    }
+
+    public boolean accepts(long[] genreBits) {
+        if (intersects(exclude, genreBits)) {
+            return false;
+        }
+        return include == null || intersects(include, genreBits);
+    }
+
+    // Postgres int[] literals for the native queries; an include filter that matched no
+    // known genre becomes {-1} so it still filters everything out.
+    public String includeSqlArray() {
+        if (include == null) {
+            return "{}";
+        }
+        String ids = toSqlArray(include);
+        return "{}".equals(ids) ? "{-1}" : ids;
+    }
+
+    public String excludeSqlArray() {
+        return toSqlArray(exclude);
+    }
+
+    static long[] toBits(int[] genreIds) {
+        int max = -1;
+        for (int id : genreIds) {
+            max = Math.max(max, id);
+        }
+        if (max < 0) {
+            return EMPTY;
+        }
+        long[] bits = new long[(max >>> 6) + 1];
+        for (int id : genreIds) {
+            if (id >= 0) {
+                bits[id >>> 6] |= 1L << id;
+            }
+        }
+        return bits;
+    }
+
+    // Comma-separated ids as produced by string_agg(genre_id::text, ',').
+    static long[] parseBits(String genreIdsCsv) {
+        if (genreIdsCsv == null || genreIdsCsv.isBlank()) {
+            return EMPTY;
+        }
+        int[] ids = Arrays.stream(genreIdsCsv.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        return toBits(ids);
+    }
+
+    private static boolean intersects(long[] mask, long[] bits) {
+        if (bits == null) {
+            return false;
+        }
+        int words = Math.min(mask.length, bits.length);
+        for (int i = 0; i < words; i++) {
+            if ((mask[i] & bits[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toSqlArray(long[] mask) {
+        StringJoiner joiner = new StringJoiner(",", "{", "}");
+        for (int word = 0; word < mask.length; word++) {
+            long remaining = mask[word];
+            while (remaining != 0) {
+                int bit = Long.numberOfTrailingZeros(remaining);
+                joiner.add(String.valueOf((word << 6) + bit));
+                remaining &= remaining - 1;
+            }
+        }
+        return joiner.toString();
+    }
+}
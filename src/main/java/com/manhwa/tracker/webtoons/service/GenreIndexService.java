@@ -0,0 +1,109 @@
+package com.manhwa.tracker.webtoons.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// In-memory view of the genres table used to turn genre filters into id bitmasks.
+// manhwa_genres itself is kept in sync with manhwas.genre by a trigger (V9), which can add
+// genres at any time (scrape chunks, enrichment), so every filter first checks MAX(id) and
+// reloads when the table has grown; otherwise a newly seen excluded genre would slip through.
+@Service
+public class GenreIndexService {
+    private final JdbcTemplate jdbcTemplate;
+    private final ExcludedGenres excludedGenres;
+    private volatile Catalog catalog = new Catalog(new int[0], new String[0], new long[0], -1);
+
+    public GenreIndexService(JdbcTemplate jdbcTemplate, ExcludedGenres excludedGenres) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.excludedGenres = excludedGenres;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            reload();
+        } catch (Exception ex) {
+            System.out.println("WARN: Could not load genre index: " + ex.getMessage());
+        }
+    }
+
+    public synchronized void reload() {
+        List<Integer> ids = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, genre_key, name FROM genres ORDER BY id", rs -> {
+            ids.add(rs.getInt("id"));
+            keys.add(rs.getString("genre_key"));
+            names.add(rs.getString("name"));
+        });
+        int[] genreIds = ids.stream().mapToInt(Integer::intValue).toArray();
+        int[] excluded = new int[genreIds.length];
+        int excludedCount = 0;
+        for (int i = 0; i < genreIds.length; i++) {
+            if (excludedGenres.isExcluded(names.get(i))) {
+                excluded[excludedCount++] = genreIds[i];
+            }
+        }
+        catalog = new Catalog(
+                genreIds,
+                keys.toArray(new String[0]),
+                GenreFilter.toBits(Arrays.copyOf(excluded, excludedCount)),
+                genreIds.length == 0 ? -1 : genreIds[genreIds.length - 1]
+        );
+    }
+
+    // Ids are SERIAL and never reused, so a larger MAX(id) means genres the catalog has not seen.
+    private Catalog current() {
+        Integer maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM genres", Integer.class);
+        if (maxId != null && maxId > catalog.maxId()) {
+            reload();
+        }
+        return catalog;
+    }
+
+    // Include tokens keep the old substring semantics, matched against normalized genre keys
+    // ("sci" matches "Sci-fi"); configured exclusions always apply.
+    public GenreFilter filterFor(String includeCsv) {
+        Catalog current = current();
+        if (includeCsv == null || includeCsv.isBlank()) {
+            return new GenreFilter(null, current.excludedBits());
+        }
+        List<String> tokens = Arrays.stream(includeCsv.split(","))
+                .map(GenreIndexService::normalizeKey)
+                .filter(token -> !token.isEmpty())
+                .toList();
+        if (tokens.isEmpty()) {
+            return new GenreFilter(null, current.excludedBits());
+        }
+        int[] matched = new int[current.ids().length];
+        int count = 0;
+        for (int i = 0; i < current.ids().length; i++) {
+            String key = current.keys()[i];
+            for (String token : tokens) {
+                if (key.contains(token)) {
+                    matched[count++] = current.ids()[i];
+                    break;
+                }
+            }
+        }
+        return new GenreFilter(GenreFilter.toBits(Arrays.copyOf(matched, count)), current.excludedBits());
+    }
+
+    // Same normalization as the sync_manhwa_genres trigger.
+    public static String normalizeKey(String genre) {
+        if (genre == null) {
+            return "";
+        }
+        return genre.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "");
+    }
+
+    private record Catalog(int[] ids, String[] keys, long[] excludedBits, int maxId) {
+    }
+}
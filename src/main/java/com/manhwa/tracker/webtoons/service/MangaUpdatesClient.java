@@ -0,0 +1,130 @@
+package com.manhwa.tracker.webtoons.service;
+
+import com.manhwa.tracker.webtoons.batch.RequestThrottle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Shared MangaUpdates HTTP client. Every attempt goes through one RequestThrottle (token bucket
+// at 1000/request-delay-ms per second, at most max-in-flight open requests) and is sent with
+// sendAsync, so callers on different threads share the request budget without a lock held
+// across I/O. 429 and 5xx are retried with jittered exponential backoff.
+@Component
+public class MangaUpdatesClient {
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final RequestThrottle throttle;
+    private final String baseUrl;
+    private final String userAgent;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public MangaUpdatesClient(
+            @Value("${app.mangaupdates.base-url:https://api.mangaupdates.com}") String baseUrl,
+            @Value("${app.mangaupdates.user-agent:Mozilla/5.0}") String userAgent,
+            @Value("${app.mangaupdates.request-delay-ms:120}") long requestDelayMs,
+            @Value("${app.mangaupdates.max-in-flight:4}") int maxInFlight,
+            @Value("${app.mangaupdates.max-attempts:3}") int maxAttempts,
+            @Value("${app.mangaupdates.retry-backoff-ms:400}") long backoffMs
+    ) {
+        this.baseUrl = baseUrl;
+        this.userAgent = userAgent;
+        double requestsPerSecond = requestDelayMs > 0 ? 1000d / requestDelayMs : 0d;
+        this.throttle = new RequestThrottle(maxInFlight, requestsPerSecond);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = Math.max(0L, backoffMs);
+    }
+
+    // Blocking convenience for callers that need the body now; only the caller's thread waits.
+    public String fetch(String path, String method, String body) throws IOException, InterruptedException {
+        try {
+            return fetchAsync(path, method, body).get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    // Completes with the 2xx body, or exceptionally once the retries are used up.
+    public CompletableFuture<String> fetchAsync(String path, String method, String body) {
+        HttpRequest request = buildRequest(path, method, body);
+        return attempt(request, path, 1);
+    }
+
+    private CompletableFuture<String> attempt(HttpRequest request, String path, int attempt) {
+        return throttle.submit(() -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                .thenCompose(response -> {
+                    int status = response.statusCode();
+                    if (status >= 200 && status < 300) {
+                        return CompletableFuture.completedFuture(response.body());
+                    }
+                    boolean retryable = status == 429 || status == 500 || status == 502 || status == 503 || status == 504;
+                    if (!retryable || attempt >= maxAttempts) {
+                        return CompletableFuture.failedFuture(new MangaUpdatesLookupException(
+                                "MangaUpdates request failed (" + status + ") for " + path, status));
+                    }
+                    long delayMs = Math.max(backoff(attempt), retryAfterMs(response));
+                    return CompletableFuture.supplyAsync(() -> null,
+                                    CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> attempt(request, path, attempt + 1));
+                })
+                .exceptionallyCompose(error -> CompletableFuture.failedFuture(unwrap(error)));
+    }
+
+    private HttpRequest buildRequest(String path, String method, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(20))
+                .header("Accept", "application/json")
+                .header("User-Agent", userAgent);
+
+        if ("POST".equals(method)) {
+            builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body == null ? "{}" : body, StandardCharsets.UTF_8));
+        } else {
+            builder.GET();
+        }
+        return builder.build();
+    }
+
+    // Half the exponential step plus a random half, so workers that failed together spread out.
+    private long backoff(int attempt) {
+        long step = backoffMs << Math.min(attempt - 1, 10);
+        long half = step / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private long retryAfterMs(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(String::trim)
+                .filter(value -> !value.isEmpty() && value.length() <= 6 && value.chars().allMatch(Character::isDigit))
+                .map(value -> TimeUnit.SECONDS.toMillis(Math.min(Long.parseLong(value), 300L)))
+                .orElse(0L);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+}
@@ -6,30 +6,31 @@ import com.manhwa.tracker.webtoons.model.Manhwa;
 import com.manhwa.tracker.webtoons.model.ManhwaExternalId;
 import com.manhwa.tracker.webtoons.model.ManhwaTitle;
 import com.manhwa.tracker.webtoons.model.TitleSource;
+import com.manhwa.tracker.webtoons.repository.EnrichmentStateRepository;
+import com.manhwa.tracker.webtoons.repository.EnrichmentStateRepository.EnrichmentState;
 import com.manhwa.tracker.webtoons.repository.ManhwaExternalIdRepository;
 import com.manhwa.tracker.webtoons.repository.ManhwaRepository;
 import com.manhwa.tracker.webtoons.repository.ManhwaTitleRepository;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Service
 public class MangaUpdatesEnrichmentService {
@@ -37,64 +38,106 @@ public class MangaUpdatesEnrichmentService {
     private final ManhwaExternalIdRepository manhwaExternalIdRepository;
     private final ManhwaTitleRepository manhwaTitleRepository;
     private final CoverSelectionService coverSelectionService;
+    private final AliasIndex aliasIndex;
+    private final EnrichmentStateRepository enrichmentStateRepository;
+
+    private final MangaUpdatesClient client;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(10))
-            .build();
 
-    private final Map<String, Optional<MangaUpdatesMetadata>> seriesCache = new ConcurrentHashMap<>();
-    private final Map<String, Optional<MangaUpdatesMetadata>> titleCache = new ConcurrentHashMap<>();
+    private final MangaUpdatesResponseCache responseCache;
+
+    // Parsed lookups (misses included) for this process, bounded LRU and expiring with the
+    // response cache's TTL, so a refresh after refresh-hours really asks MangaUpdates again.
+    private final Map<String, CachedLookup> seriesCache;
+    private final Map<String, CachedLookup> titleCache;
+    private final long memoryTtlMillis;
 
     @Value("${app.mangaupdates.enabled:true}")
     private boolean enabled;
 
-    @Value("${app.mangaupdates.base-url:https://api.mangaupdates.com}")
-    private String baseUrl;
-
-    @Value("${app.mangaupdates.user-agent:Mozilla/5.0}")
-    private String userAgent;
-
-    @Value("${app.mangaupdates.request-delay-ms:120}")
-    private long requestDelayMs;
-
     @Value("${app.mangaupdates.search.max-results:10}")
     private int maxSearchResults;
 
     @Value("${app.mangaupdates.search.min-score:700}")
     private int minSearchScore;
 
-    private long lastRequestAt = 0L;
+    @Value("${app.mangaupdates.enrichment.refresh-hours:168}")
+    private long refreshHours;
 
     public MangaUpdatesEnrichmentService(ManhwaRepository manhwaRepository,
                                          ManhwaExternalIdRepository manhwaExternalIdRepository,
                                          ManhwaTitleRepository manhwaTitleRepository,
-                                         CoverSelectionService coverSelectionService) {
+                                         CoverSelectionService coverSelectionService,
+                                         AliasIndex aliasIndex,
+                                         EnrichmentStateRepository enrichmentStateRepository,
+                                         MangaUpdatesClient client,
+                                         MangaUpdatesResponseCache responseCache,
+                                         @Value("${app.mangaupdates.cache.memory-entries:2000}") int memoryEntries,
+                                         @Value("${app.mangaupdates.cache.ttl-hours:72}") long ttlHours) {
         this.manhwaRepository = manhwaRepository;
         this.manhwaExternalIdRepository = manhwaExternalIdRepository;
         this.manhwaTitleRepository = manhwaTitleRepository;
         this.coverSelectionService = coverSelectionService;
+        this.aliasIndex = aliasIndex;
+        this.enrichmentStateRepository = enrichmentStateRepository;
+        this.client = client;
+        this.responseCache = responseCache;
+        this.seriesCache = boundedCache(memoryEntries);
+        this.titleCache = boundedCache(memoryEntries);
+        this.memoryTtlMillis = TimeUnit.HOURS.toMillis(Math.max(1L, ttlHours));
     }
 
-    public void enrichManhwa(Long manhwaId, String titleHint) {
+    // Network half of an enrichment, run outside any transaction so no connection or row lock is
+    // held across MangaUpdates I/O. Returns null when the manhwa needs nothing; a failed lookup
+    // throws MangaUpdatesLookupException, so a null metadata in the result is a real miss.
+    EnrichmentLookup lookup(Long manhwaId, String titleHint) {
         if (!enabled || manhwaId == null) {
-            return;
+            return null;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        EnrichmentState state = enrichmentStateRepository.find(manhwaId).orElse(null);
+        if (state != null && state.fetchedAt().isAfter(now.minusHours(refreshHours))) {
+            return null;
         }
 
         Manhwa manhwa = manhwaRepository.findById(manhwaId).orElse(null);
         if (manhwa == null) {
-            return;
+            return null;
         }
 
         Optional<MangaUpdatesMetadata> metadata = resolveMetadata(manhwaId, titleHint, manhwa.getCanonicalTitle());
-        if (metadata.isEmpty()) {
+        return new EnrichmentLookup(manhwaId, state, metadata.orElse(null), now);
+    }
+
+    // Database half, run in the caller's (short) transaction.
+    void apply(EnrichmentLookup lookup) {
+        long manhwaId = lookup.manhwaId();
+        EnrichmentState state = lookup.previous();
+        MangaUpdatesMetadata data = lookup.metadata();
+        if (data == null) {
+            // Remember the miss so the title is not searched again until the TTL runs out.
+            enrichmentStateRepository.save(manhwaId,
+                    state == null ? null : state.seriesId(),
+                    state == null ? null : state.contentHash(),
+                    lookup.fetchedAt());
             return;
         }
 
-        MangaUpdatesMetadata data = metadata.get();
+        String contentHash = contentHash(data);
+        if (state != null && contentHash.equals(state.contentHash())) {
+            enrichmentStateRepository.save(manhwaId, data.seriesId(), contentHash, lookup.fetchedAt());
+            return;
+        }
+        Manhwa manhwa = manhwaRepository.findById(manhwaId).orElse(null);
+        if (manhwa == null) {
+            return;
+        }
         upsertMangaUpdatesExternalId(manhwaId, data.seriesId());
         upsertAliases(manhwaId, data);
         updateManhwa(manhwa, data);
+        enrichmentStateRepository.save(manhwaId, data.seriesId(), contentHash, lookup.fetchedAt());
     }
 
     @Transactional
@@ -103,9 +146,9 @@ public class MangaUpdatesEnrichmentService {
             return null;
         }
 
+        // Existing titles are enriched later through the queue the processors feed.
         Long existingByTitle = findExistingManhwaIdByTitle(titleHint);
         if (existingByTitle != null) {
-            enrichManhwa(existingByTitle, titleHint);
             return existingByTitle;
         }
 
@@ -114,7 +157,14 @@ public class MangaUpdatesEnrichmentService {
             return created == null ? null : created.getId();
         }
 
-        Optional<MangaUpdatesMetadata> metadata = searchSeries(titleHint);
+        Optional<MangaUpdatesMetadata> metadata;
+        try {
+            metadata = searchSeries(titleHint);
+        } catch (MangaUpdatesLookupException ex) {
+            // Not a miss: ingest the bare title now and let the queued enrichment retry the lookup.
+            System.out.println("WARN: MangaUpdates search failed for title='" + titleHint + "' : " + ex.getMessage());
+            metadata = Optional.empty();
+        }
         if (metadata.isEmpty()) {
             Manhwa created = createOrFindByCanonicalTitle(titleHint);
             return created == null ? null : created.getId();
@@ -125,9 +175,7 @@ public class MangaUpdatesEnrichmentService {
             Optional<ManhwaExternalId> existingBySeries = manhwaExternalIdRepository
                     .findBySourceAndExternalId(TitleSource.MANGAUPDATES, data.seriesId());
             if (existingBySeries.isPresent()) {
-                Long manhwaId = existingBySeries.get().getManhwaId();
-                enrichManhwa(manhwaId, titleHint);
-                return manhwaId;
+                return existingBySeries.get().getManhwaId();
             }
         }
 
@@ -138,6 +186,7 @@ public class MangaUpdatesEnrichmentService {
             upsertMangaUpdatesExternalId(existingByMetadataTitle, data.seriesId());
             upsertAliases(existingByMetadataTitle, data);
             manhwaRepository.findById(existingByMetadataTitle).ifPresent(manhwa -> updateManhwa(manhwa, data));
+            enrichmentStateRepository.save(existingByMetadataTitle, data.seriesId(), contentHash(data), LocalDateTime.now());
             return existingByMetadataTitle;
         }
 
@@ -149,9 +198,37 @@ public class MangaUpdatesEnrichmentService {
         upsertMangaUpdatesExternalId(created.getId(), data.seriesId());
         upsertAliases(created.getId(), data);
         updateManhwa(created, data);
+        enrichmentStateRepository.save(created.getId(), data.seriesId(), contentHash(data), LocalDateTime.now());
         return created.getId();
     }
 
+    // SHA-256 over every field the enrichment writes from, including the matched title that
+    // decides canonical-title promotion.
+    private String contentHash(MangaUpdatesMetadata data) {
+        StringBuilder content = new StringBuilder();
+        for (String value : List.of(
+                nullToEmpty(data.seriesId()),
+                nullToEmpty(data.title()),
+                nullToEmpty(data.description()),
+                nullToEmpty(data.coverImageUrl()),
+                nullToEmpty(data.coverThumbUrl()),
+                nullToEmpty(data.genreCsv()),
+                String.join("\u001f", data.associatedTitles()),
+                nullToEmpty(data.matchedTitle()))) {
+            content.append(value).append('\u001e');
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
     private Optional<MangaUpdatesMetadata> resolveMetadata(Long manhwaId, String titleHint, String canonicalTitle) {
         List<ManhwaExternalId> existingMuIds = manhwaExternalIdRepository
                 .findAllByManhwaIdAndSource(manhwaId, TitleSource.MANGAUPDATES);
@@ -186,96 +263,95 @@ public class MangaUpdatesEnrichmentService {
         if (!normalizedSeriesId.chars().allMatch(Character::isDigit)) {
             return Optional.empty();
         }
-        return seriesCache.computeIfAbsent(normalizedSeriesId, id -> {
+        return cached(seriesCache, normalizedSeriesId, id -> {
             try {
-                JsonNode root = requestJson("/v1/series/" + id, "GET", null);
+                JsonNode root = requestJson("series:" + id, "/v1/series/" + id, "GET", null);
                 return Optional.of(parseMetadata(root));
-            } catch (Exception ex) {
-                System.out.println("WARN: MangaUpdates series lookup failed for id=" + id + " : " + ex.getMessage());
-                return Optional.empty();
+            } catch (MangaUpdatesLookupException ex) {
+                // A removed series is a miss; any other failure is left uncached for the caller.
+                if (ex.status() == 404) {
+                    return Optional.empty();
+                }
+                throw ex;
             }
         });
     }
 
     private Optional<MangaUpdatesMetadata> searchSeries(String title) {
-        String normalizedTitle = TitleNormalizer.normalize(title);
-        if (normalizedTitle.isBlank()) {
+        TitleFeatures target = TitleFeatures.of(title);
+        String normalizedTitle = target.normalized();
+        if (target.isEmpty()) {
             return Optional.empty();
         }
 
-        return titleCache.computeIfAbsent(normalizedTitle, key -> {
-            try {
-                String body = objectMapper.writeValueAsString(Map.of("search", title));
-                JsonNode root = requestJson("/v1/series/search", "POST", body);
-                JsonNode results = root.path("results");
-                if (!results.isArray() || results.isEmpty()) {
-                    return Optional.empty();
-                }
+        return cached(titleCache, normalizedTitle, key -> {
+            String body = objectMapper.createObjectNode().put("search", title).toString();
+            JsonNode root = requestJson("search:" + key, "/v1/series/search", "POST", body);
+            JsonNode results = root.path("results");
+            if (!results.isArray() || results.isEmpty()) {
+                return Optional.empty();
+            }
 
-                List<ScoredMetadata> candidates = new ArrayList<>();
-                int limit = Math.min(maxSearchResults, results.size());
-                for (int i = 0; i < limit; i++) {
-                    JsonNode hit = results.get(i);
-                    JsonNode record = hit.path("record");
-                    if (record.isMissingNode()) {
-                        continue;
-                    }
-                    MangaUpdatesMetadata metadata = parseMetadata(record);
-                    String hitTitle = text(hit, "hit_title");
-                    MangaUpdatesMetadata scoredMetadata = new MangaUpdatesMetadata(
-                            metadata.seriesId(),
-                            metadata.title(),
-                            metadata.description(),
-                            metadata.coverImageUrl(),
-                            metadata.coverThumbUrl(),
-                            metadata.genreCsv(),
-                            metadata.associatedTitles(),
-                            hitTitle
-                    );
-                    int score = titleScore(normalizedTitle, scoredMetadata, hitTitle);
-                    candidates.add(new ScoredMetadata(scoredMetadata, score));
+            List<ScoredMetadata> candidates = new ArrayList<>();
+            int limit = Math.min(maxSearchResults, results.size());
+            for (int i = 0; i < limit; i++) {
+                JsonNode hit = results.get(i);
+                JsonNode record = hit.path("record");
+                if (record.isMissingNode()) {
+                    continue;
                 }
+                MangaUpdatesMetadata metadata = parseMetadata(record);
+                String hitTitle = text(hit, "hit_title");
+                MangaUpdatesMetadata scoredMetadata = new MangaUpdatesMetadata(
+                        metadata.seriesId(),
+                        metadata.title(),
+                        metadata.description(),
+                        metadata.coverImageUrl(),
+                        metadata.coverThumbUrl(),
+                        metadata.genreCsv(),
+                        metadata.associatedTitles(),
+                        hitTitle
+                );
+                int score = titleScore(target, scoredMetadata, hitTitle);
+                candidates.add(new ScoredMetadata(scoredMetadata, score));
+            }
 
-                List<ScoredMetadata> ranked = candidates.stream()
-                        .sorted(Comparator.comparingInt(ScoredMetadata::score).reversed())
-                        .toList();
-                if (ranked.isEmpty()) {
-                    return Optional.empty();
-                }
+            List<ScoredMetadata> ranked = candidates.stream()
+                    .sorted(Comparator.comparingInt(ScoredMetadata::score).reversed())
+                    .toList();
+            if (ranked.isEmpty()) {
+                return Optional.empty();
+            }
 
-                ScoredMetadata bestCandidate = ranked.get(0);
-                if (bestCandidate.score() < minSearchScore) {
+            ScoredMetadata bestCandidate = ranked.get(0);
+            if (bestCandidate.score() < minSearchScore) {
+                return Optional.empty();
+            }
+            if (ranked.size() > 1) {
+                int secondScore = ranked.get(1).score();
+                boolean ambiguous = bestCandidate.score() < 900
+                        && (bestCandidate.score() - secondScore) < 80;
+                if (ambiguous) {
                     return Optional.empty();
                 }
-                if (ranked.size() > 1) {
-                    int secondScore = ranked.get(1).score();
-                    boolean ambiguous = bestCandidate.score() < 900
-                            && (bestCandidate.score() - secondScore) < 80;
-                    if (ambiguous) {
-                        return Optional.empty();
-                    }
-                }
+            }
 
-                MangaUpdatesMetadata best = bestCandidate.metadata();
-                Optional<MangaUpdatesMetadata> fullMetadata = getSeries(best.seriesId());
-                if (fullMetadata.isPresent()) {
-                    return Optional.of(mergeMetadata(fullMetadata.get(), best));
-                }
-                return Optional.of(best);
-            } catch (Exception ex) {
-                System.out.println("WARN: MangaUpdates search failed for title='" + title + "' : " + ex.getMessage());
-                return Optional.empty();
+            MangaUpdatesMetadata best = bestCandidate.metadata();
+            Optional<MangaUpdatesMetadata> fullMetadata = getSeries(best.seriesId());
+            if (fullMetadata.isPresent()) {
+                return Optional.of(mergeMetadata(fullMetadata.get(), best));
             }
+            return Optional.of(best);
         });
     }
 
-    private int titleScore(String normalizedTarget, MangaUpdatesMetadata metadata, String hitTitle) {
-        int best = scoreOne(normalizedTarget, metadata.title());
+    private int titleScore(TitleFeatures target, MangaUpdatesMetadata metadata, String hitTitle) {
+        int best = scoreOne(target, metadata.title());
         for (String alias : metadata.associatedTitles()) {
-            best = Math.max(best, scoreOne(normalizedTarget, alias));
+            best = Math.max(best, scoreOne(target, alias));
         }
         if (hitTitle != null && !hitTitle.isBlank()) {
-            int hitScore = scoreOne(normalizedTarget, hitTitle);
+            int hitScore = scoreOne(target, hitTitle);
             // The search API's hit_title may include aliases not present in "title"/"associated".
             best = Math.max(best, Math.min(1100, hitScore + 220));
         }
@@ -301,26 +377,11 @@ public class MangaUpdatesEnrichmentService {
         );
     }
 
-    private int scoreOne(String normalizedTarget, String candidateTitle) {
+    private int scoreOne(TitleFeatures target, String candidateTitle) {
         if (candidateTitle == null || candidateTitle.isBlank()) {
             return 0;
         }
-        String normalizedCandidate = TitleNormalizer.normalize(candidateTitle);
-        if (normalizedCandidate.isBlank()) {
-            return 0;
-        }
-        if (normalizedTarget.equals(normalizedCandidate)) {
-            return 1000;
-        }
-        if (normalizedTarget.contains(normalizedCandidate) || normalizedCandidate.contains(normalizedTarget)) {
-            return 750;
-        }
-
-        Set<String> targetTokens = new HashSet<>(List.of(normalizedTarget.split(" ")));
-        Set<String> candidateTokens = new HashSet<>(List.of(normalizedCandidate.split(" ")));
-        long overlap = targetTokens.stream().filter(candidateTokens::contains).count();
-        double similarity = overlap / (double) Math.max(1, Math.max(targetTokens.size(), candidateTokens.size()));
-        return (int) (similarity * 600);
+        return target.score(TitleFeatures.of(candidateTitle));
     }
 
     private void upsertMangaUpdatesExternalId(Long manhwaId, String seriesId) {
@@ -380,6 +441,7 @@ public class MangaUpdatesEnrichmentService {
         ManhwaTitle alias = new ManhwaTitle(manhwaId, title, normalized, TitleSource.MANGAUPDATES);
         alias.setCanonical(false);
         manhwaTitleRepository.save(alias);
+        aliasIndex.add(normalized, manhwaId);
     }
 
     private void updateManhwa(Manhwa manhwa, MangaUpdatesMetadata data) {
@@ -543,54 +605,53 @@ public class MangaUpdatesEnrichmentService {
         return null;
     }
 
-    private synchronized JsonNode requestJson(String path, String method, String body) throws IOException, InterruptedException {
-        int attempts = 0;
-        while (true) {
-            attempts++;
-            applyRateLimit();
-
-            HttpRequest.Builder builder = HttpRequest.newBuilder()
-                    .uri(URI.create(baseUrl + path))
-                    .timeout(Duration.ofSeconds(20))
-                    .header("Accept", "application/json")
-                    .header("User-Agent", userAgent);
-
-            if ("POST".equals(method)) {
-                builder.header("Content-Type", "application/json")
-                        .POST(HttpRequest.BodyPublishers.ofString(body == null ? "{}" : body, StandardCharsets.UTF_8));
-            } else {
-                builder.GET();
-            }
-
-            HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
-            int status = response.statusCode();
-            if (status >= 200 && status < 300) {
-                return objectMapper.readTree(response.body());
-            }
-
-            boolean retryable = status == 429 || status == 500 || status == 502 || status == 503 || status == 504;
-            if (!retryable || attempts >= 3) {
-                throw new IllegalStateException("MangaUpdates request failed (" + status + ") for " + path);
+    // Replays a cached response for cacheKey when there is one; only 2xx bodies are stored.
+    private JsonNode requestJson(String cacheKey, String path, String method, String body) {
+        try {
+            Optional<String> cached = responseCache.get(cacheKey);
+            if (cached.isPresent()) {
+                return objectMapper.readTree(cached.get());
             }
-
-            Thread.sleep(400L * attempts);
+            String response = client.fetch(path, method, body);
+            JsonNode root = objectMapper.readTree(response);
+            responseCache.put(cacheKey, response);
+            return root;
+        } catch (IOException ex) {
+            throw new MangaUpdatesLookupException("MangaUpdates request failed for " + path + " : " + ex.getMessage(), ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new MangaUpdatesLookupException("MangaUpdates request interrupted for " + path, ex);
         }
     }
 
-    private void applyRateLimit() {
-        if (requestDelayMs <= 0) {
-            return;
-        }
+    // The loader runs outside the lock: a search loads its best hit through getSeries. A loader
+    // that throws caches nothing, so failures are retried on the next call; expired entries are
+    // loaded again.
+    private Optional<MangaUpdatesMetadata> cached(Map<String, CachedLookup> cache,
+                                                  String key,
+                                                  Function<String, Optional<MangaUpdatesMetadata>> loader) {
         long now = System.currentTimeMillis();
-        long elapsed = now - lastRequestAt;
-        if (elapsed < requestDelayMs) {
-            try {
-                Thread.sleep(requestDelayMs - elapsed);
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
+        synchronized (cache) {
+            CachedLookup hit = cache.get(key);
+            if (hit != null && now - hit.loadedAt() < memoryTtlMillis) {
+                return hit.metadata();
             }
         }
-        lastRequestAt = System.currentTimeMillis();
+        Optional<MangaUpdatesMetadata> loaded = loader.apply(key);
+        synchronized (cache) {
+            cache.put(key, new CachedLookup(loaded, System.currentTimeMillis()));
+        }
+        return loaded;
+    }
+
+    private static Map<String, CachedLookup> boundedCache(int maxEntries) {
+        int capacity = Math.max(1, maxEntries);
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedLookup> eldest) {
+                return size() > capacity;
+            }
+        };
     }
 
     private String text(JsonNode node, String field) {
@@ -641,12 +702,9 @@ public class MangaUpdatesEnrichmentService {
         if (title == null || title.isBlank()) {
             return null;
         }
-        String normalized = TitleNormalizer.normalize(title);
-        if (!normalized.isBlank()) {
-            List<ManhwaTitle> matches = manhwaTitleRepository.findByNormalizedTitle(normalized);
-            if (!matches.isEmpty()) {
-                return matches.get(0).getManhwaId();
-            }
+        Long byAlias = aliasIndex.findTitle(title);
+        if (byAlias != null) {
+            return byAlias;
         }
         return manhwaRepository.findByCanonicalTitle(title)
                 .map(Manhwa::getId)
@@ -661,14 +719,17 @@ public class MangaUpdatesEnrichmentService {
         if (existing != null) {
             return existing;
         }
-        try {
-            return manhwaRepository.save(new Manhwa(canonicalTitle));
-        } catch (DataIntegrityViolationException ex) {
-            return manhwaRepository.findByCanonicalTitle(canonicalTitle).orElse(null);
-        }
+        // Steps scraping in parallel can meet the same new title; a failed unique insert would
+        // abort the whole chunk transaction on Postgres, so let ON CONFLICT absorb the race.
+        manhwaRepository.insertIfAbsent(canonicalTitle, LocalDateTime.now());
+        return manhwaRepository.findByCanonicalTitle(canonicalTitle).orElse(null);
     }
 
-    private record MangaUpdatesMetadata(
+    // metadata == null: MangaUpdates answered, but nothing matched.
+    record EnrichmentLookup(long manhwaId, EnrichmentState previous, MangaUpdatesMetadata metadata, LocalDateTime fetchedAt) {
+    }
+
+    record MangaUpdatesMetadata(
             String seriesId,
             String title,
             String description,
@@ -682,4 +743,7 @@ public class MangaUpdatesEnrichmentService {
 
     private record ScoredMetadata(MangaUpdatesMetadata metadata, int score) {
     }
+
+    private record CachedLookup(Optional<MangaUpdatesMetadata> metadata, long loadedAt) {
+    }
 }
@@ -0,0 +1,146 @@
+package com.manhwa.tracker.webtoons.service;
+
+import com.manhwa.tracker.webtoons.repository.EnrichmentQueueRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Drains manhwa_enrichment_queue so the scrape steps never wait on MangaUpdates. Runs on its own
+// scheduler thread, so a long drain neither waits behind nor delays the @Scheduled scrape and
+// maintenance jobs. Each drain leases a batch of rows in one short statement, looks them up with
+// no transaction open, then records each result and its queue row in a second short transaction.
+// Up to `concurrency` items of a batch run at once on virtual threads (default max-in-flight),
+// so the lookups can use MangaUpdatesClient's whole request budget; the client's shared
+// throttle still decides the actual request rate.
+@Service
+public class MangaUpdatesEnrichmentWorker {
+    private final EnrichmentQueueRepository queueRepository;
+    private final MangaUpdatesEnrichmentService enrichmentService;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final boolean enabled;
+    private final long pollMs;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryDelayMinutes;
+    private final long refreshHours;
+    private final long leaseMinutes;
+    private final int concurrency;
+    private ScheduledExecutorService scheduler;
+
+    public MangaUpdatesEnrichmentWorker(
+            EnrichmentQueueRepository queueRepository,
+            MangaUpdatesEnrichmentService enrichmentService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.mangaupdates.enabled:true}") boolean mangaUpdatesEnabled,
+            @Value("${app.mangaupdates.enrichment.worker.enabled:true}") boolean workerEnabled,
+            @Value("${app.mangaupdates.enrichment.poll-ms:5000}") long pollMs,
+            @Value("${app.mangaupdates.enrichment.batch-size:50}") int batchSize,
+            @Value("${app.mangaupdates.enrichment.max-attempts:3}") int maxAttempts,
+            @Value("${app.mangaupdates.enrichment.retry-delay-minutes:30}") long retryDelayMinutes,
+            @Value("${app.mangaupdates.enrichment.refresh-hours:168}") long refreshHours,
+            @Value("${app.mangaupdates.enrichment.lease-minutes:15}") long leaseMinutes,
+            @Value("${app.mangaupdates.enrichment.concurrency:${app.mangaupdates.max-in-flight:4}}") int concurrency
+    ) {
+        this.queueRepository = queueRepository;
+        this.enrichmentService = enrichmentService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = mangaUpdatesEnabled && workerEnabled;
+        this.pollMs = Math.max(100L, pollMs);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelayMinutes = Math.max(0, retryDelayMinutes);
+        this.refreshHours = Math.max(0, refreshHours);
+        this.leaseMinutes = Math.max(1, leaseMinutes);
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    // Enriched rows older than this are accepted again by the next enqueue.
+    public LocalDateTime staleBefore(LocalDateTime now) {
+        return now.minusHours(refreshHours);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mangaupdates-enrichment");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::drain, pollMs, pollMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public void drain() {
+        if (!enabled || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<EnrichmentQueueRepository.Claim> claims =
+                    queueRepository.claim(now, now.plusMinutes(leaseMinutes), batchSize);
+            Semaphore slots = new Semaphore(concurrency);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (EnrichmentQueueRepository.Claim claim : claims) {
+                    slots.acquire();
+                    executor.submit(() -> {
+                        try {
+                            enrich(claim);
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                }
+            }
+            if (!claims.isEmpty()) {
+                System.out.println("INFO: MangaUpdates enrichment processed " + claims.size()
+                        + " manhwas, pending=" + queueRepository.countPending());
+            }
+        } catch (Exception ex) {
+            System.out.println("WARN: MangaUpdates enrichment drain failed: " + ex.getMessage());
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private void enrich(EnrichmentQueueRepository.Claim claim) {
+        try {
+            MangaUpdatesEnrichmentService.EnrichmentLookup lookup =
+                    enrichmentService.lookup(claim.manhwaId(), claim.titleHint());
+            transactionTemplate.executeWithoutResult(status -> {
+                if (lookup != null) {
+                    enrichmentService.apply(lookup);
+                }
+                queueRepository.markEnriched(claim.manhwaId(), LocalDateTime.now());
+            });
+        } catch (Exception ex) {
+            LocalDateTime now = LocalDateTime.now();
+            System.out.println("WARN: MangaUpdates enrichment failed for manhwaId=" + claim.manhwaId() + " : " + ex.getMessage());
+            transactionTemplate.executeWithoutResult(status -> queueRepository.markFailed(
+                    claim.manhwaId(), ex.getMessage(), now.plusMinutes(retryDelayMinutes), maxAttempts, now));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.manhwa.tracker.webtoons.service;
+
+// MangaUpdates gave no answer (transport error, or a non-2xx status after the client's retries).
+// Kept apart from an empty lookup result, which means MangaUpdates answered with no acceptable match.
+public class MangaUpdatesLookupException extends RuntimeException {
+    private final int status;
+
+    public MangaUpdatesLookupException(String message, int status) {
+        super(message);
+        this.status = status;
+    }
+
+    public MangaUpdatesLookupException(String message, Throwable cause) {
+        super(message, cause);
+        this.status = -1;
+    }
+
+    // HTTP status of the last attempt, or -1 when the request never got a response.
+    public int status() {
+        return status;
+    }
+}
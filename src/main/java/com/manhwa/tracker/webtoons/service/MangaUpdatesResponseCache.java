@@ -0,0 +1,183 @@
+package com.manhwa.tracker.webtoons.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Raw MangaUpdates response bodies on disk, so re-runs and restarts replay earlier lookups
+// instead of calling the API again. One file per normalized request key: the first line is the
+// time it was stored (for the TTL), the rest is the body; the file's mtime is its last hit, which
+// rebuilds the LRU order on startup. Bounded by entry count and total bytes.
+@Component
+public class MangaUpdatesResponseCache {
+    private static final String SUFFIX = ".json";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlMillis;
+    private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public MangaUpdatesResponseCache(
+            @Value("${app.mangaupdates.cache.enabled:true}") boolean enabled,
+            @Value("${app.mangaupdates.cache.path:mangaupdates-cache}") String path,
+            @Value("${app.mangaupdates.cache.max-entries:50000}") int maxEntries,
+            @Value("${app.mangaupdates.cache.max-size-mb:256}") long maxSizeMb,
+            @Value("${app.mangaupdates.cache.ttl-hours:72}") long ttlHours
+    ) {
+        this.directory = Paths.get(path).toAbsolutePath().normalize();
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxBytes = Math.max(1L, maxSizeMb) * 1024L * 1024L;
+        this.ttlMillis = Duration.ofHours(Math.max(1L, ttlHours)).toMillis();
+        boolean ready = enabled;
+        if (enabled) {
+            try {
+                Files.createDirectories(directory);
+                loadIndex();
+            } catch (IOException ex) {
+                System.out.println("WARN: MangaUpdates response cache disabled, cannot use " + directory + " : " + ex.getMessage());
+                ready = false;
+            }
+        }
+        this.enabled = ready;
+    }
+
+    public Optional<String> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String name = fileName(key);
+        synchronized (index) {
+            if (index.get(name) == null) {
+                return Optional.empty();
+            }
+        }
+        Path file = directory.resolve(name);
+        try {
+            String content = Files.readString(file, StandardCharsets.UTF_8);
+            int newline = content.indexOf('\n');
+            long storedAt = newline > 0 ? Long.parseLong(content.substring(0, newline)) : 0L;
+            if (System.currentTimeMillis() - storedAt >= ttlMillis) {
+                remove(name);
+                return Optional.empty();
+            }
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(content.substring(newline + 1));
+        } catch (IOException | NumberFormatException ex) {
+            remove(name);
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, String body) {
+        if (!enabled || body == null) {
+            return;
+        }
+        String name = fileName(key);
+        byte[] bytes = (System.currentTimeMillis() + "\n" + body).getBytes(StandardCharsets.UTF_8);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, "mu-", ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            System.out.println("WARN: Could not cache MangaUpdates response " + key + " : " + ex.getMessage());
+            deleteQuietly(temp);
+            return;
+        }
+        List<String> evicted = new ArrayList<>();
+        synchronized (index) {
+            Entry previous = index.put(name, new Entry(bytes.length));
+            totalBytes += bytes.length - (previous == null ? 0 : previous.bytes());
+            Iterator<Map.Entry<String, Entry>> eldest = index.entrySet().iterator();
+            while ((index.size() > maxEntries || totalBytes > maxBytes) && eldest.hasNext()) {
+                Map.Entry<String, Entry> victim = eldest.next();
+                if (victim.getKey().equals(name)) {
+                    continue;
+                }
+                totalBytes -= victim.getValue().bytes();
+                evicted.add(victim.getKey());
+                eldest.remove();
+            }
+        }
+        evicted.forEach(victim -> deleteQuietly(directory.resolve(victim)));
+    }
+
+    private void remove(String name) {
+        synchronized (index) {
+            Entry removed = index.remove(name);
+            if (removed != null) {
+                totalBytes -= removed.bytes();
+            }
+        }
+        deleteQuietly(directory.resolve(name));
+    }
+
+    // Oldest hit first, so the LinkedHashMap's access order matches the files' mtimes.
+    private void loadIndex() throws IOException {
+        record Found(String name, long bytes, long lastHit) {
+        }
+        List<Found> found = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    found.add(new Found(file.getFileName().toString(), Files.size(file),
+                            Files.getLastModifiedTime(file).toMillis()));
+                } catch (NoSuchFileException ignored) {
+                }
+            }
+        }
+        found.sort(Comparator.comparingLong(Found::lastHit));
+        synchronized (index) {
+            for (Found file : found) {
+                index.put(file.name(), new Entry(file.bytes()));
+                totalBytes += file.bytes();
+            }
+        }
+        System.out.println("INFO: MangaUpdates response cache has " + found.size() + " entries in " + directory);
+    }
+
+    private static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + SUFFIX;
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private record Entry(long bytes) {
+    }
+}
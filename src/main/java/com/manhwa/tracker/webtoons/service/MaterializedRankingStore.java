@@ -0,0 +1,144 @@
+package com.manhwa.tracker.webtoons.service;
+
+import com.manhwa.tracker.webtoons.model.MetricType;
+import com.manhwa.tracker.webtoons.model.RankingWindow;
+import com.manhwa.tracker.webtoons.model.TrendingRankingMode;
+import com.manhwa.tracker.webtoons.repository.RankingRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Precomputed ranking boards keyed by (metric, source, mode, window, genre, baseline floor).
+// Boards expire after max-age because the ranking SQL filters relative to NOW(). Keys come from
+// client parameters, so the store is capped at max-boards (least recently read dropped first) and
+// a board nobody read within max-age is dropped rather than kept patched.
+@Component
+public class MaterializedRankingStore {
+    private static final Comparator<RankingRow> BY_SCORE = Comparator.comparing(
+            RankingRow::rankingScore,
+            Comparator.nullsLast(Comparator.reverseOrder())
+    );
+
+    // Insertion order doubles as read order: get() moves a board to the end.
+    private final LinkedHashMap<BoardKey, Entry> boards = new LinkedHashMap<>();
+    private final boolean enabled;
+    private final int maxRows;
+    private final int maxBoards;
+    private final Duration maxAge;
+
+    public MaterializedRankingStore(
+            @Value("${app.ranking.materialization.enabled:true}") boolean enabled,
+            @Value("${app.ranking.materialization.max-rows:300}") int maxRows,
+            @Value("${app.ranking.materialization.max-age-minutes:60}") long maxAgeMinutes,
+            @Value("${app.ranking.materialization.max-boards:200}") int maxBoards
+    ) {
+        this.enabled = enabled;
+        this.maxRows = Math.max(1, maxRows);
+        this.maxBoards = Math.max(1, maxBoards);
+        this.maxAge = Duration.ofMinutes(Math.max(1L, maxAgeMinutes));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int maxRows() {
+        return maxRows;
+    }
+
+    public synchronized Optional<Board> get(BoardKey key) {
+        Entry entry = boards.remove(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (entry.board().materializedAt().isBefore(now.minus(maxAge))) {
+            return Optional.empty();
+        }
+        boards.put(key, new Entry(entry.board(), now));
+        return Optional.of(entry.board());
+    }
+
+    public synchronized Board put(BoardKey key, List<RankingRow> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        Board board = new Board(List.copyOf(rows), now);
+        boards.remove(key);
+        boards.put(key, new Entry(board, now));
+        Iterator<BoardKey> eldest = boards.keySet().iterator();
+        while (boards.size() > maxBoards && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+        return board;
+    }
+
+    // Swaps the rows of the given titles for their re-scored versions and re-sorts. The board
+    // keeps its materializedAt, so max-age still forces a periodic full re-rank; titles that
+    // fall off the end can leave it a few rows short until then.
+    public boolean patch(BoardKey key, Set<Long> manhwaIds, List<RankingRow> rescored) {
+        Entry entry;
+        synchronized (this) {
+            entry = boards.get(key);
+        }
+        if (entry == null) {
+            return false;
+        }
+        Board board = entry.board();
+        List<RankingRow> rows = new ArrayList<>(board.rows().size() + rescored.size());
+        for (RankingRow row : board.rows()) {
+            if (!manhwaIds.contains(row.manhwaId())) {
+                rows.add(row);
+            }
+        }
+        rows.addAll(rescored);
+        rows.sort(BY_SCORE);
+        if (rows.size() > maxRows) {
+            rows = rows.subList(0, maxRows);
+        }
+        Board patched = new Board(List.copyOf(rows), board.materializedAt());
+        synchronized (this) {
+            // Lost to a concurrent put or patch; the newer board wins.
+            if (boards.get(key) != entry) {
+                return false;
+            }
+            boards.put(key, new Entry(patched, entry.lastReadAt()));
+            return true;
+        }
+    }
+
+    // Boards read within max-age; idle ones are dropped here instead of being patched further.
+    public synchronized Set<BoardKey> keys() {
+        LocalDateTime readSince = LocalDateTime.now().minus(maxAge);
+        boards.values().removeIf(entry -> entry.lastReadAt().isBefore(readSince));
+        return Set.copyOf(boards.keySet());
+    }
+
+    public synchronized void clear() {
+        boards.clear();
+    }
+
+    public record BoardKey(
+            MetricType metricType,
+            Integer sourceId,
+            TrendingRankingMode rankingMode,
+            RankingWindow window,
+            String genre,
+            Long minPreviousValue
+    ) {
+    }
+
+    public record Board(List<RankingRow> rows, LocalDateTime materializedAt) {
+    }
+
+    private record Entry(Board board, LocalDateTime lastReadAt) {
+    }
+}
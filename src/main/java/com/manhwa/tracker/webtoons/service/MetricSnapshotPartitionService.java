@@ -0,0 +1,111 @@
+package com.manhwa.tracker.webtoons.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+@Service
+public class MetricSnapshotPartitionService {
+    private static final String PARENT_TABLE = "metric_snapshots";
+    private static final String DEFAULT_PARTITION = "metric_snapshots_default";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+
+    public MetricSnapshotPartitionService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.snapshots.partitions.enabled:true}") boolean enabled,
+            @Value("${app.snapshots.partitions.months-ahead:3}") int monthsAhead
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.monthsAhead = Math.max(1, monthsAhead);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensureUpcomingPartitions();
+    }
+
+    @Scheduled(cron = "${app.snapshots.partitions.cron:0 30 2 * * *}", zone = "${app.snapshot.zone:UTC}")
+    public void ensureUpcomingPartitions() {
+        if (!enabled) {
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        for (int offset = 0; offset <= monthsAhead; offset++) {
+            YearMonth month = current.plusMonths(offset);
+            try {
+                ensurePartition(month);
+            } catch (Exception ex) {
+                System.out.println("WARN: Could not prepare metric_snapshots partition for " + month
+                        + " : " + ex.getMessage());
+            }
+        }
+    }
+
+    private void ensurePartition(YearMonth month) {
+        String partition = PARENT_TABLE + "_" + month.format(SUFFIX);
+        if (isAttached(partition)) {
+            return;
+        }
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        // Rows that already landed in the default partition for this month have to move
+        // before the range can be attached, otherwise Postgres rejects the new bound.
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition
+                    + " (LIKE " + PARENT_TABLE + " INCLUDING DEFAULTS)");
+            int moved = jdbcTemplate.update(
+                    "WITH moved AS ("
+                            + " DELETE FROM " + DEFAULT_PARTITION
+                            + " WHERE captured_at >= ? AND captured_at < ?"
+                            + " RETURNING id, manhwa_id, source_id, metric_type, metric_value, captured_at"
+                            + ") INSERT INTO " + partition
+                            + " (id, manhwa_id, source_id, metric_type, metric_value, captured_at)"
+                            + " SELECT id, manhwa_id, source_id, metric_type, metric_value, captured_at FROM moved",
+                    Timestamp.valueOf(from.atStartOfDay()),
+                    Timestamp.valueOf(to.atStartOfDay())
+            );
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + partition
+                    + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            System.out.println("INFO: Attached partition " + partition
+                    + (moved > 0 ? " (moved " + moved + " rows from default partition)" : ""));
+        });
+    }
+
+    private boolean isAttached(String partition) {
+        Boolean attached = jdbcTemplate.queryForObject(
+                """
+                SELECT EXISTS (
+                    SELECT 1
+                    FROM pg_inherits i
+                    JOIN pg_class child ON child.oid = i.inhrelid
+                    JOIN pg_class parent ON parent.oid = i.inhparent
+                    WHERE parent.relname = ?
+                      AND child.relname = ?
+                )
+                """,
+                Boolean.class,
+                PARENT_TABLE,
+                partition
+        );
+        return Boolean.TRUE.equals(attached);
+    }
+}
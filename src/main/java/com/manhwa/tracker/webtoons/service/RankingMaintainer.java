@@ -0,0 +1,41 @@
+package com.manhwa.tracker.webtoons.service;
+
+import com.manhwa.tracker.webtoons.model.SnapshotsCommittedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Keeps materialized boards fresh while a scrape is still running: each committed chunk from
+// scrapingStep / asuraScrapingStep / tapasScrapingStep re-scores just the titles it touched.
+// The full re-rank in RankingRefreshListener still runs once the job ends.
+@Component
+public class RankingMaintainer {
+    private final TrendingService trendingService;
+    private final boolean enabled;
+
+    public RankingMaintainer(
+            TrendingService trendingService,
+            @Value("${app.ranking.incremental.enabled:true}") boolean enabled
+    ) {
+        this.trendingService = trendingService;
+        this.enabled = enabled;
+    }
+
+    // After SnapshotColumnStore has appended the chunk, before SnapshotGeneration bumps.
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSnapshotsCommitted(SnapshotsCommittedEvent event) {
+        if (!enabled || event.snapshots().isEmpty()) {
+            return;
+        }
+        try {
+            trendingService.patchMaterializedBoards(event);
+        } catch (Exception ex) {
+            // The chunk is already committed; a stale board only waits for the post-job refresh.
+            System.out.println("WARN: Incremental ranking patch failed: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.manhwa.tracker.webtoons.service;
+
+import com.manhwa.tracker.webtoons.model.RankingWindow;
+import com.manhwa.tracker.webtoons.model.TrendingRankingMode;
+import com.manhwa.tracker.webtoons.repository.RankingRow;
+import com.manhwa.tracker.webtoons.repository.RankingWorkingSetProjection;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Latest point plus every baseline the ranking modes need for one (metric, source), held in
+// parallel primitive arrays. Every mode and window is scored from the same set, whether it
+// came from the working-set query or from SnapshotColumnStore.
+final class RankingWorkingSet {
+    static final long DAY_SECONDS = 86_400L;
+    // Oldest baseline any mode may pick: windows look back max(3 x window, 30) days and
+    // acceleration 30 days before its previous point; the SQL in MetricSnapshotRepository matches.
+    static final int BASELINE_LOOKBACK_DAYS = 30;
+    // A title only ranks while its latest point is this fresh.
+    static final int FRESH_DAYS = 3;
+    private static final long MISSING = Long.MIN_VALUE;
+    private static final long MIN_BASELINE_SECONDS = 21_600L;
+
+    private long[] manhwaIds;
+    private String[] titles;
+    private String[] genres;
+    private String[] covers;
+    private String[] readUrls;
+    private long[][] genreBits;
+    private long[] latestValues;
+    private long[] latestAt;
+    private long[][] baselineValues;
+    private long[][] baselineAt;
+    private long[] accelPreviousValues;
+    private long[] accelPreviousAt;
+    private long[] accelPriorValues;
+    private long[] accelPriorAt;
+    private long[] sortedIds;
+    private int[] sortedPositions;
+    private int size;
+
+    RankingWorkingSet(int capacity) {
+        int initial = Math.max(16, capacity);
+        this.manhwaIds = new long[initial];
+        this.titles = new String[initial];
+        this.genres = new String[initial];
+        this.covers = new String[initial];
+        this.readUrls = new String[initial];
+        this.genreBits = new long[initial][];
+        this.latestValues = new long[initial];
+        this.latestAt = new long[initial];
+        this.baselineValues = new long[RankingWindow.values().length][initial];
+        this.baselineAt = new long[RankingWindow.values().length][initial];
+        this.accelPreviousValues = new long[initial];
+        this.accelPreviousAt = new long[initial];
+        this.accelPriorValues = new long[initial];
+        this.accelPriorAt = new long[initial];
+    }
+
+    static RankingWorkingSet fromProjections(List<RankingWorkingSetProjection> rows) {
+        RankingWorkingSet set = new RankingWorkingSet(rows.size());
+        for (RankingWorkingSetProjection row : rows) {
+            if (row.getManhwaId() == null || row.getLatestValue() == null || row.getLatestAt() == null) {
+                continue;
+            }
+            int index = set.add(
+                    row.getManhwaId(),
+                    row.getTitle(),
+                    row.getGenre(),
+                    row.getCoverImageUrl(),
+                    row.getReadUrl(),
+                    GenreFilter.parseBits(row.getGenreIds()),
+                    row.getLatestValue(),
+                    toEpoch(row.getLatestAt())
+            );
+            if (row.getDailyValue() != null && row.getDailyAt() != null) {
+                set.setBaseline(index, RankingWindow.DAILY, row.getDailyValue(), toEpoch(row.getDailyAt()));
+            }
+            if (row.getWeeklyValue() != null && row.getWeeklyAt() != null) {
+                set.setBaseline(index, RankingWindow.WEEKLY, row.getWeeklyValue(), toEpoch(row.getWeeklyAt()));
+            }
+            if (row.getAccelPreviousValue() != null && row.getAccelPreviousAt() != null
+                    && row.getAccelPriorValue() != null && row.getAccelPriorAt() != null) {
+                set.setAcceleration(
+                        index,
+                        row.getAccelPreviousValue(),
+                        toEpoch(row.getAccelPreviousAt()),
+                        row.getAccelPriorValue(),
+                        toEpoch(row.getAccelPriorAt())
+                );
+            }
+        }
+        return set;
+    }
+
+    static long toEpoch(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static LocalDateTime toDateTime(long epochSeconds) {
+        return LocalDateTime.ofEpochSecond(epochSeconds, 0, ZoneOffset.UTC);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int add(
+            long manhwaId,
+            String title,
+            String genre,
+            String cover,
+            String readUrl,
+            long[] genreIds,
+            long latestValue,
+            long latestEpoch
+    ) {
+        if (size == manhwaIds.length) {
+            grow(size * 2);
+        }
+        int index = size++;
+        manhwaIds[index] = manhwaId;
+        titles[index] = title;
+        genres[index] = genre;
+        covers[index] = cover;
+        readUrls[index] = readUrl;
+        genreBits[index] = genreIds;
+        latestValues[index] = latestValue;
+        latestAt[index] = latestEpoch;
+        for (int window = 0; window < baselineAt.length; window++) {
+            baselineAt[window][index] = MISSING;
+        }
+        accelPreviousAt[index] = MISSING;
+        accelPriorAt[index] = MISSING;
+        sortedIds = null;
+        return index;
+    }
+
+    void setBaseline(int index, RankingWindow window, long value, long epoch) {
+        baselineValues[window.ordinal()][index] = value;
+        baselineAt[window.ordinal()][index] = epoch;
+    }
+
+    void setAcceleration(int index, long previousValue, long previousEpoch, long priorValue, long priorEpoch) {
+        accelPreviousValues[index] = previousValue;
+        accelPreviousAt[index] = previousEpoch;
+        accelPriorValues[index] = priorValue;
+        accelPriorAt[index] = priorEpoch;
+    }
+
+    // ABS, RATE and PCT against the window baseline; baselines under 6 hours old are ignored.
+    List<RankingRow> rankGrowth(
+            TrendingRankingMode rankingMode,
+            RankingWindow window,
+            Long minPreviousValue,
+            GenreFilter genreFilter,
+            int limit
+    ) {
+        long[] values = baselineValues[window.ordinal()];
+        long[] at = baselineAt[window.ordinal()];
+        double[] scores = new double[size];
+        TopKSelector top = new TopKSelector(limit);
+        for (int i = 0; i < size; i++) {
+            if (at[i] == MISSING || !genreFilter.accepts(genreBits[i])) {
+                continue;
+            }
+            long elapsed = latestAt[i] - at[i];
+            long previous = values[i];
+            if (elapsed < MIN_BASELINE_SECONDS || (minPreviousValue != null && previous < minPreviousValue)) {
+                continue;
+            }
+            long growth = latestValues[i] - previous;
+            scores[i] = switch (rankingMode) {
+                case ABS -> growth;
+                case PCT -> previous > 0 ? (double) growth / previous : Double.NEGATIVE_INFINITY;
+                default -> growth / (elapsed / (double) DAY_SECONDS);
+            };
+            top.offer(i, scores[i], growth);
+        }
+        List<RankingRow> ranked = new ArrayList<>(top.size());
+        for (int i : top.drainDescending()) {
+            long growth = latestValues[i] - values[i];
+            double days = (latestAt[i] - at[i]) / (double) DAY_SECONDS;
+            Double percent = values[i] > 0 ? (double) growth / values[i] : null;
+            ranked.add(row(i, values[i], toDateTime(at[i]), growth, days, growth / days, percent,
+                    Double.isFinite(scores[i]) ? scores[i] : null));
+        }
+        return ranked;
+    }
+
+    List<RankingRow> rankTotal(GenreFilter genreFilter, int limit) {
+        TopKSelector top = new TopKSelector(limit);
+        for (int i = 0; i < size; i++) {
+            if (!genreFilter.accepts(genreBits[i])) {
+                continue;
+            }
+            top.offer(i, latestValues[i], latestAt[i]);
+        }
+        List<RankingRow> ranked = new ArrayList<>(top.size());
+        for (int i : top.drainDescending()) {
+            ranked.add(row(i, null, null, null, null, null, null, (double) latestValues[i]));
+        }
+        return ranked;
+    }
+
+    // Growth rate over the latest interval minus the growth rate over the interval before it.
+    List<RankingRow> rankAcceleration(GenreFilter genreFilter, int limit) {
+        double[] scores = new double[size];
+        TopKSelector top = new TopKSelector(limit);
+        for (int i = 0; i < size; i++) {
+            if (accelPreviousAt[i] == MISSING || accelPriorAt[i] == MISSING || !genreFilter.accepts(genreBits[i])) {
+                continue;
+            }
+            double recentDays = (latestAt[i] - accelPreviousAt[i]) / (double) DAY_SECONDS;
+            double priorDays = (accelPreviousAt[i] - accelPriorAt[i]) / (double) DAY_SECONDS;
+            double recentRate = (latestValues[i] - accelPreviousValues[i]) / recentDays;
+            double priorRate = (accelPreviousValues[i] - accelPriorValues[i]) / priorDays;
+            scores[i] = recentRate - priorRate;
+            top.offer(i, scores[i], latestValues[i] - accelPreviousValues[i]);
+        }
+        List<RankingRow> ranked = new ArrayList<>(top.size());
+        for (int i : top.drainDescending()) {
+            long growth = latestValues[i] - accelPreviousValues[i];
+            double days = (latestAt[i] - accelPreviousAt[i]) / (double) DAY_SECONDS;
+            ranked.add(row(i, accelPreviousValues[i], toDateTime(accelPreviousAt[i]),
+                    growth, days, growth / days, null, scores[i]));
+        }
+        return ranked;
+    }
+
+    // Latest value here over the latest value of the same title in the denominator set.
+    List<RankingRow> rankEngagement(RankingWorkingSet denominator, GenreFilter genreFilter, int limit) {
+        double[] scores = new double[size];
+        int[] matches = new int[size];
+        TopKSelector top = new TopKSelector(limit);
+        for (int i = 0; i < size; i++) {
+            if (!genreFilter.accepts(genreBits[i])) {
+                continue;
+            }
+            int d = denominator.indexOf(manhwaIds[i]);
+            if (d < 0 || denominator.latestValues[d] <= 0) {
+                continue;
+            }
+            matches[i] = d;
+            scores[i] = (double) latestValues[i] / denominator.latestValues[d];
+            top.offer(i, scores[i], latestValues[i]);
+        }
+        List<RankingRow> ranked = new ArrayList<>(top.size());
+        for (int i : top.drainDescending()) {
+            int d = matches[i];
+            double days = Math.abs(latestAt[i] - denominator.latestAt[d]) / (double) DAY_SECONDS;
+            ranked.add(row(i, denominator.latestValues[d], toDateTime(denominator.latestAt[d]),
+                    null, days, null, scores[i], scores[i]));
+        }
+        return ranked;
+    }
+
+    private int indexOf(long manhwaId) {
+        if (sortedIds == null) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(manhwaIds[a], manhwaIds[b]));
+            long[] ids = new long[size];
+            int[] positions = new int[size];
+            for (int i = 0; i < size; i++) {
+                ids[i] = manhwaIds[order[i]];
+                positions[i] = order[i];
+            }
+            sortedPositions = positions;
+            sortedIds = ids;
+        }
+        int found = Arrays.binarySearch(sortedIds, manhwaId);
+        return found < 0 ? -1 : sortedPositions[found];
+    }
+
+    private RankingRow row(
+            int i,
+            Long previousValue,
+            LocalDateTime previousAt,
+            Long growth,
+            Double baselineDays,
+            Double growthPerDay,
+            Double growthPercent,
+            Double rankingScore
+    ) {
+        return new RankingRow(
+                manhwaIds[i],
+                titles[i],
+                genres[i],
+                covers[i],
+                readUrls[i],
+                latestValues[i],
+                toDateTime(latestAt[i]),
+                previousValue,
+                previousAt,
+                growth,
+                baselineDays,
+                growthPerDay,
+                growthPercent,
+                rankingScore
+        );
+    }
+
+    private void grow(int capacity) {
+        manhwaIds = Arrays.copyOf(manhwaIds, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        genres = Arrays.copyOf(genres, capacity);
+        covers = Arrays.copyOf(covers, capacity);
+        readUrls = Arrays.copyOf(readUrls, capacity);
+        genreBits = Arrays.copyOf(genreBits, capacity);
+        latestValues = Arrays.copyOf(latestValues, capacity);
+        latestAt = Arrays.copyOf(latestAt, capacity);
+        for (int window = 0; window < baselineAt.length; window++) {
+            baselineValues[window] = Arrays.copyOf(baselineValues[window], capacity);
+            baselineAt[window] = Arrays.copyOf(baselineAt[window], capacity);
+        }
+        accelPreviousValues = Arrays.copyOf(accelPreviousValues, capacity);
+        accelPreviousAt = Arrays.copyOf(accelPreviousAt, capacity);
+        accelPriorValues = Arrays.copyOf(accelPriorValues, capacity);
+        accelPriorAt = Arrays.copyOf(accelPriorAt, capacity);
+    }
+}
@@ -0,0 +1,516 @@
+package com.manhwa.tracker.webtoons.service;
+
+import com.manhwa.tracker.webtoons.model.MetricSnapshot;
+import com.manhwa.tracker.webtoons.model.MetricType;
+import com.manhwa.tracker.webtoons.model.SnapshotsCommittedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// Recent snapshot history held column-wise for the in-memory ranking engine
+// (app.ranking.engine=memory). One row per manhwa, one primitive series per
+// (source, metric) code; source 0 merges every source like sourceId = NULL in SQL.
+@Component
+public class SnapshotColumnStore {
+    static final int ANY_SOURCE = 0;
+    private static final int READ_URL_SOURCES = 4;
+    private static final String FALLBACK_COVER = "/images/cover-fallback.svg";
+
+    private static final String CATALOG_SQL = """
+            SELECT m.id,
+                   m.canonical_title,
+                   m.genre,
+                   (SELECT string_agg(mg.genre_id::text, ',') FROM manhwa_genres mg WHERE mg.manhwa_id = m.id) AS genre_ids,
+                   COALESCE(NULLIF(m.cover_image_url, ''), '/images/cover-fallback.svg') AS cover_image_url,
+                   mei.source,
+                   COALESCE(NULLIF(mei.url, ''), CASE WHEN mei.external_id LIKE 'http%' THEN mei.external_id ELSE NULL END) AS read_url
+            FROM manhwas m
+            LEFT JOIN manhwa_external_ids mei
+                   ON mei.manhwa_id = m.id
+                  AND mei.source IN ('WEBTOONS', 'ASURA', 'TAPAS')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int historyDays;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ConcurrentLinkedQueue<MetricSnapshot> pendingDuringLoad = new ConcurrentLinkedQueue<>();
+    private volatile boolean loading;
+    private volatile Columns columns;
+
+    public SnapshotColumnStore(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.ranking.engine:sql}") String engine,
+            @Value("${app.ranking.memory.history-days:60}") int historyDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = "memory".equalsIgnoreCase(engine == null ? "" : engine.trim());
+        this.historyDays = Math.max(30, historyDays);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception ex) {
+            System.out.println("WARN: Could not load snapshot column store: " + ex.getMessage());
+        }
+    }
+
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        loading = true;
+        long started = System.currentTimeMillis();
+        try {
+            Columns fresh = new Columns();
+            long since = RankingWorkingSet.toEpoch(LocalDateTime.now().minusDays(historyDays));
+            jdbcTemplate.query(
+                    """
+                    SELECT manhwa_id, source_id, metric_type, metric_value, captured_at
+                    FROM metric_snapshot_points
+                    WHERE captured_at >= ?
+                      AND manhwa_id IS NOT NULL
+                      AND source_id IS NOT NULL
+                    """,
+                    rs -> {
+                        MetricType metricType = parseMetricType(rs.getString("metric_type"));
+                        Timestamp capturedAt = rs.getTimestamp("captured_at");
+                        if (metricType == null || capturedAt == null) {
+                            return;
+                        }
+                        fresh.append(
+                                rs.getLong("manhwa_id"),
+                                rs.getInt("source_id"),
+                                metricType,
+                                RankingWorkingSet.toEpoch(capturedAt.toLocalDateTime()),
+                                rs.getLong("metric_value")
+                        );
+                    },
+                    Timestamp.valueOf(LocalDateTime.now().minusDays(historyDays))
+            );
+            loadCatalog(fresh, null);
+            fresh.trimBefore(since);
+            lock.writeLock().lock();
+            try {
+                columns = fresh;
+                loading = false;
+                MetricSnapshot pending;
+                while ((pending = pendingDuringLoad.poll()) != null) {
+                    appendSnapshot(fresh, pending);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            System.out.println("INFO: Snapshot column store loaded " + fresh.rowCount + " titles in "
+                    + (System.currentTimeMillis() - started) + "ms");
+        } finally {
+            loading = false;
+        }
+    }
+
+    // Titles, covers and read URLs change during scrape jobs; refresh them once a job finishes
+    // and drop points that fell out of the history window.
+    public void refreshCatalog() {
+        Columns current = columns;
+        if (!enabled || current == null) {
+            return;
+        }
+        Columns staging = new Columns();
+        loadCatalog(staging, null);
+        long since = RankingWorkingSet.toEpoch(LocalDateTime.now().minusDays(historyDays));
+        lock.writeLock().lock();
+        try {
+            current.copyCatalogFrom(staging);
+            current.trimBefore(since);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Runs before RankingMaintainer so board patches see the chunk that was just committed.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSnapshotsCommitted(SnapshotsCommittedEvent event) {
+        if (!enabled || event.snapshots().isEmpty()) {
+            return;
+        }
+        Set<Long> unknownIds = new HashSet<>();
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                pendingDuringLoad.addAll(event.snapshots());
+                return;
+            }
+            if (columns == null) {
+                return;
+            }
+            for (MetricSnapshot snapshot : event.snapshots()) {
+                if (snapshot.getManhwaId() != null && !columns.rowsByManhwaId.containsKey(snapshot.getManhwaId())) {
+                    unknownIds.add(snapshot.getManhwaId());
+                }
+                appendSnapshot(columns, snapshot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!unknownIds.isEmpty()) {
+            Columns staging = new Columns();
+            loadCatalog(staging, unknownIds);
+            lock.writeLock().lock();
+            try {
+                columns.copyCatalogFrom(staging);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    <T> T read(Function<Columns, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(columns);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void appendSnapshot(Columns target, MetricSnapshot snapshot) {
+        if (snapshot.getManhwaId() == null
+                || snapshot.getSourceId() == null
+                || snapshot.getMetricType() == null
+                || snapshot.getMetricValue() == null
+                || snapshot.getCapturedAt() == null) {
+            return;
+        }
+        target.append(
+                snapshot.getManhwaId(),
+                snapshot.getSourceId(),
+                snapshot.getMetricType(),
+                RankingWorkingSet.toEpoch(snapshot.getCapturedAt()),
+                snapshot.getMetricValue()
+        );
+    }
+
+    private void loadCatalog(Columns target, Set<Long> onlyIds) {
+        String sql = CATALOG_SQL;
+        Object[] args = new Object[0];
+        if (onlyIds != null) {
+            sql = sql + " WHERE m.id = ANY(?)";
+            args = new Object[]{onlyIds.toArray(new Long[0])};
+        }
+        jdbcTemplate.query(sql, rs -> {
+            long manhwaId = rs.getLong("id");
+            target.setCatalog(
+                    manhwaId,
+                    rs.getString("canonical_title"),
+                    rs.getString("genre"),
+                    GenreFilter.parseBits(rs.getString("genre_ids")),
+                    rs.getString("cover_image_url"),
+                    sourceSlot(rs.getString("source")),
+                    rs.getString("read_url")
+            );
+        }, args);
+    }
+
+    private int sourceSlot(String source) {
+        if (source == null) {
+            return -1;
+        }
+        return switch (source) {
+            case "WEBTOONS" -> 1;
+            case "ASURA" -> 2;
+            case "TAPAS" -> 3;
+            default -> -1;
+        };
+    }
+
+    private MetricType parseMetricType(String value) {
+        try {
+            return value == null ? null : MetricType.valueOf(value);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    // Mutable column set; every access goes through the store lock.
+    final class Columns {
+        private final Map<Long, Integer> rowsByManhwaId = new HashMap<>();
+        private final Map<Integer, Integer> codesByKey = new HashMap<>();
+        private long[] manhwaIds = new long[1024];
+        private String[] titles = new String[1024];
+        private String[] genres = new String[1024];
+        private String[] covers = new String[1024];
+        private long[][] genreBits = new long[1024][];
+        private boolean[] cataloged = new boolean[1024];
+        private String[][] readUrls = new String[READ_URL_SOURCES][1024];
+        private Series[][] series = new Series[0][];
+        private int rowCount;
+
+        int rowCount() {
+            return rowCount;
+        }
+
+        int rowOf(long manhwaId) {
+            Integer row = rowsByManhwaId.get(manhwaId);
+            return row == null ? -1 : row;
+        }
+
+        // -1 when nothing has been recorded for that source/metric pair yet.
+        int code(Integer sourceId, MetricType metricType) {
+            Integer code = codesByKey.get(codeKey(sourceId == null ? ANY_SOURCE : sourceId, metricType));
+            return code == null ? -1 : code;
+        }
+
+        Series series(int code, int row) {
+            Series[] column = series[code];
+            return row < column.length ? column[row] : null;
+        }
+
+        long manhwaId(int row) {
+            return manhwaIds[row];
+        }
+
+        String title(int row) {
+            return titles[row];
+        }
+
+        String genre(int row) {
+            return genres[row];
+        }
+
+        String cover(int row) {
+            return covers[row] == null ? FALLBACK_COVER : covers[row];
+        }
+
+        long[] genreBits(int row) {
+            return genreBits[row];
+        }
+
+        // Rows without a manhwas entry yet never rank; genre exclusion is applied per request.
+        boolean isRankable(int row) {
+            return cataloged[row];
+        }
+
+        // Mirrors the read_url lateral: the requested source, or the first of WEBTOONS/ASURA/TAPAS.
+        String readUrl(Integer sourceId, int row) {
+            if (sourceId != null) {
+                return sourceId > 0 && sourceId < READ_URL_SOURCES ? readUrls[sourceId][row] : null;
+            }
+            for (int slot = 1; slot < READ_URL_SOURCES; slot++) {
+                if (readUrls[slot][row] != null) {
+                    return readUrls[slot][row];
+                }
+            }
+            return null;
+        }
+
+        private void append(long manhwaId, int sourceId, MetricType metricType, long epoch, long value) {
+            int row = rowFor(manhwaId);
+            seriesFor(codeFor(sourceId, metricType), row).put(epoch, value);
+            if (sourceId != ANY_SOURCE) {
+                seriesFor(codeFor(ANY_SOURCE, metricType), row).put(epoch, value);
+            }
+        }
+
+        private void setCatalog(
+                long manhwaId,
+                String title,
+                String genre,
+                long[] genreIds,
+                String cover,
+                int slot,
+                String readUrl
+        ) {
+            int row = rowFor(manhwaId);
+            titles[row] = title;
+            genres[row] = genre;
+            covers[row] = cover;
+            genreBits[row] = genreIds;
+            cataloged[row] = true;
+            if (slot > 0 && readUrl != null && readUrls[slot][row] == null) {
+                readUrls[slot][row] = readUrl;
+            }
+        }
+
+        private void copyCatalogFrom(Columns staging) {
+            for (int staged = 0; staged < staging.rowCount; staged++) {
+                int row = rowFor(staging.manhwaIds[staged]);
+                titles[row] = staging.titles[staged];
+                genres[row] = staging.genres[staged];
+                covers[row] = staging.covers[staged];
+                genreBits[row] = staging.genreBits[staged];
+                cataloged[row] = staging.cataloged[staged];
+                for (int slot = 1; slot < READ_URL_SOURCES; slot++) {
+                    readUrls[slot][row] = staging.readUrls[slot][staged];
+                }
+            }
+        }
+
+        private void trimBefore(long epoch) {
+            for (Series[] column : series) {
+                for (Series points : column) {
+                    if (points != null) {
+                        points.trimBefore(epoch);
+                    }
+                }
+            }
+        }
+
+        private int rowFor(long manhwaId) {
+            Integer existing = rowsByManhwaId.get(manhwaId);
+            if (existing != null) {
+                return existing;
+            }
+            if (rowCount == manhwaIds.length) {
+                int capacity = rowCount * 2;
+                manhwaIds = Arrays.copyOf(manhwaIds, capacity);
+                titles = Arrays.copyOf(titles, capacity);
+                genres = Arrays.copyOf(genres, capacity);
+                covers = Arrays.copyOf(covers, capacity);
+                genreBits = Arrays.copyOf(genreBits, capacity);
+                cataloged = Arrays.copyOf(cataloged, capacity);
+                for (int slot = 0; slot < READ_URL_SOURCES; slot++) {
+                    readUrls[slot] = Arrays.copyOf(readUrls[slot], capacity);
+                }
+            }
+            int row = rowCount++;
+            manhwaIds[row] = manhwaId;
+            rowsByManhwaId.put(manhwaId, row);
+            return row;
+        }
+
+        private int codeFor(int sourceId, MetricType metricType) {
+            int key = codeKey(sourceId, metricType);
+            Integer code = codesByKey.get(key);
+            if (code != null) {
+                return code;
+            }
+            int next = series.length;
+            series = Arrays.copyOf(series, next + 1);
+            series[next] = new Series[manhwaIds.length];
+            codesByKey.put(key, next);
+            return next;
+        }
+
+        private Series seriesFor(int code, int row) {
+            Series[] column = series[code];
+            if (row >= column.length) {
+                column = Arrays.copyOf(column, Math.max(row + 1, manhwaIds.length));
+                series[code] = column;
+            }
+            Series points = column[row];
+            if (points == null) {
+                points = new Series();
+                column[row] = points;
+            }
+            return points;
+        }
+
+        private int codeKey(int sourceId, MetricType metricType) {
+            return (sourceId << 8) | metricType.ordinal();
+        }
+    }
+
+    // Points of one (manhwa, source, metric) series ordered by capture time.
+    static final class Series {
+        long[] epochs = new long[8];
+        long[] values = new long[8];
+        int size;
+
+        int lastIndex() {
+            return size - 1;
+        }
+
+        // Point closest to target inside [floor, before), later capture wins ties.
+        int closestBefore(long target, long floor, long before) {
+            int best = -1;
+            long bestDistance = Long.MAX_VALUE;
+            for (int i = size - 1; i >= 0; i--) {
+                long epoch = epochs[i];
+                if (epoch >= before) {
+                    continue;
+                }
+                if (epoch < floor) {
+                    break;
+                }
+                long distance = Math.abs(target - epoch);
+                if (distance < bestDistance) {
+                    best = i;
+                    bestDistance = distance;
+                }
+            }
+            return best;
+        }
+
+        // Latest point inside [floor, ceiling].
+        int latestBetween(long floor, long ceiling) {
+            for (int i = size - 1; i >= 0; i--) {
+                long epoch = epochs[i];
+                if (epoch > ceiling) {
+                    continue;
+                }
+                return epoch >= floor ? i : -1;
+            }
+            return -1;
+        }
+
+        private void put(long epoch, long value) {
+            int position = size;
+            while (position > 0 && epochs[position - 1] > epoch) {
+                position--;
+            }
+            if (position > 0 && epochs[position - 1] == epoch) {
+                values[position - 1] = value;
+                return;
+            }
+            if (size == epochs.length) {
+                epochs = Arrays.copyOf(epochs, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(epochs, position, epochs, position + 1, size - position);
+            System.arraycopy(values, position, values, position + 1, size - position);
+            epochs[position] = epoch;
+            values[position] = value;
+            size++;
+        }
+
+        private void trimBefore(long epoch) {
+            int keepFrom = 0;
+            while (keepFrom < size && epochs[keepFrom] < epoch) {
+                keepFrom++;
+            }
+            if (keepFrom == 0) {
+                return;
+            }
+            System.arraycopy(epochs, keepFrom, epochs, 0, size - keepFrom);
+            System.arraycopy(values, keepFrom, values, 0, size - keepFrom);
+            size -= keepFrom;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.manhwa.tracker.webtoons.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Raw snapshots older than the hot window collapse into daily buckets, and daily buckets
+// older than the daily retention collapse into weekly ones. Baselines read both tiers
+// through the metric_snapshot_points view.
+@Service
+public class SnapshotCompactionService {
+    public static final String TIER_DAILY = "DAILY";
+    public static final String TIER_WEEKLY = "WEEKLY";
+
+    private static final String MERGE_BUCKET = """
+            ON CONFLICT (manhwa_id, source_id, metric_type, tier, bucket_start) DO UPDATE SET
+                first_value = CASE WHEN EXCLUDED.first_at < metric_snapshot_rollups.first_at
+                                   THEN EXCLUDED.first_value ELSE metric_snapshot_rollups.first_value END,
+                first_at = LEAST(EXCLUDED.first_at, metric_snapshot_rollups.first_at),
+                last_value = CASE WHEN EXCLUDED.last_at > metric_snapshot_rollups.last_at
+                                  THEN EXCLUDED.last_value ELSE metric_snapshot_rollups.last_value END,
+                last_at = GREATEST(EXCLUDED.last_at, metric_snapshot_rollups.last_at),
+                min_value = LEAST(EXCLUDED.min_value, metric_snapshot_rollups.min_value),
+                max_value = GREATEST(EXCLUDED.max_value, metric_snapshot_rollups.max_value),
+                sample_count = metric_snapshot_rollups.sample_count + EXCLUDED.sample_count
+            """;
+
+    private static final String COMPACT_RAW_TO_DAILY = """
+            WITH moved AS (
+                DELETE FROM metric_snapshots
+                WHERE captured_at < ?
+                  AND manhwa_id IS NOT NULL
+                  AND source_id IS NOT NULL
+                RETURNING manhwa_id, source_id, metric_type, metric_value, captured_at
+            )
+            INSERT INTO metric_snapshot_rollups (
+                manhwa_id, source_id, metric_type, tier, bucket_start,
+                first_value, first_at, last_value, last_at, min_value, max_value, sample_count
+            )
+            SELECT manhwa_id,
+                   source_id,
+                   metric_type,
+                   'DAILY',
+                   date_trunc('day', captured_at),
+                   (array_agg(metric_value ORDER BY captured_at ASC))[1],
+                   MIN(captured_at),
+                   (array_agg(metric_value ORDER BY captured_at DESC))[1],
+                   MAX(captured_at),
+                   MIN(metric_value),
+                   MAX(metric_value),
+                   COUNT(*)
+            FROM moved
+            GROUP BY manhwa_id, source_id, metric_type, date_trunc('day', captured_at)
+            """ + MERGE_BUCKET;
+
+    private static final String COMPACT_DAILY_TO_WEEKLY = """
+            WITH moved AS (
+                DELETE FROM metric_snapshot_rollups
+                WHERE tier = 'DAILY'
+                  AND bucket_start < ?
+                RETURNING manhwa_id, source_id, metric_type, bucket_start,
+                          first_value, first_at, last_value, last_at, min_value, max_value, sample_count
+            )
+            INSERT INTO metric_snapshot_rollups (
+                manhwa_id, source_id, metric_type, tier, bucket_start,
+                first_value, first_at, last_value, last_at, min_value, max_value, sample_count
+            )
+            SELECT manhwa_id,
+                   source_id,
+                   metric_type,
+                   'WEEKLY',
+                   date_trunc('week', bucket_start),
+                   (array_agg(first_value ORDER BY first_at ASC))[1],
+                   MIN(first_at),
+                   (array_agg(last_value ORDER BY last_at DESC))[1],
+                   MAX(last_at),
+                   MIN(min_value),
+                   MAX(max_value),
+                   SUM(sample_count)
+            FROM moved
+            GROUP BY manhwa_id, source_id, metric_type, date_trunc('week', bucket_start)
+            """ + MERGE_BUCKET;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int hotDays;
+    private final int dailyRetentionDays;
+
+    public SnapshotCompactionService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.snapshots.compaction.hot-days:35}") int hotDays,
+            @Value("${app.snapshots.compaction.daily-retention-days:90}") int dailyRetentionDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Baselines are picked up to BASELINE_LOOKBACK_DAYS before a latest point that may itself be
+        // FRESH_DAYS old; rolling any of those into buckets would change which point is chosen.
+        this.hotDays = Math.max(RankingWorkingSet.BASELINE_LOOKBACK_DAYS + RankingWorkingSet.FRESH_DAYS, hotDays);
+        this.dailyRetentionDays = Math.max(this.hotDays + 7, dailyRetentionDays);
+    }
+
+    // Cutoffs are aligned to bucket boundaries so a bucket is never split between tiers.
+    public CompactionResult compact() {
+        LocalDateTime rawCutoff = LocalDate.now().minusDays(hotDays).atStartOfDay();
+        LocalDate dailyCutoffDay = LocalDate.now().minusDays(dailyRetentionDays);
+        LocalDateTime dailyCutoff = dailyCutoffDay
+                .minusDays(dailyCutoffDay.getDayOfWeek().getValue() - 1L)
+                .atStartOfDay();
+
+        int dailyBuckets = jdbcTemplate.update(COMPACT_RAW_TO_DAILY, Timestamp.valueOf(rawCutoff));
+        int weeklyBuckets = jdbcTemplate.update(COMPACT_DAILY_TO_WEEKLY, Timestamp.valueOf(dailyCutoff));
+        System.out.println("INFO: Snapshot compaction wrote " + dailyBuckets + " daily buckets (raw before "
+                + rawCutoff + ") and " + weeklyBuckets + " weekly buckets (daily before " + dailyCutoff + ")");
+        return new CompactionResult(dailyBuckets, weeklyBuckets);
+    }
+
+    public record CompactionResult(int dailyBuckets, int weeklyBuckets) {
+    }
+}
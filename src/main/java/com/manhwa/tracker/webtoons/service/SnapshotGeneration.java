@@ -0,0 +1,32 @@
+package com.manhwa.tracker.webtoons.service;
+
+import com.manhwa.tracker.webtoons.model.SnapshotsCommittedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Monotonic counter bumped whenever ranking inputs change: every committed snapshot chunk
+// and every post-job board refresh. Cached ranking responses are only valid for one value.
+@Component
+public class SnapshotGeneration {
+    private final AtomicLong generation = new AtomicLong();
+
+    public long current() {
+        return generation.get();
+    }
+
+    public long bump() {
+        return generation.incrementAndGet();
+    }
+
+    // Last, so a response cached under the new generation already sees patched boards.
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSnapshotsCommitted(SnapshotsCommittedEvent event) {
+        bump();
+    }
+}
@@ -0,0 +1,124 @@
+package com.manhwa.tracker.webtoons.service;
+
+import java.util.Arrays;
+
+// A title normalized once, with its distinct tokens and character trigrams kept as sorted arrays,
+// so comparing two titles is a couple of merge walks instead of re-normalizing and building sets.
+public final class TitleFeatures {
+    private static final TitleFeatures EMPTY = new TitleFeatures("", new String[0], new long[0]);
+
+    private final String normalized;
+    private final String[] tokens;
+    private final long[] trigrams;
+
+    private TitleFeatures(String normalized, String[] tokens, long[] trigrams) {
+        this.normalized = normalized;
+        this.tokens = tokens;
+        this.trigrams = trigrams;
+    }
+
+    public static TitleFeatures of(String title) {
+        return ofNormalized(TitleNormalizer.normalize(title));
+    }
+
+    public static TitleFeatures ofNormalized(String normalized) {
+        if (normalized == null || normalized.isBlank()) {
+            return EMPTY;
+        }
+        return new TitleFeatures(normalized, tokens(normalized), trigrams(normalized));
+    }
+
+    public String normalized() {
+        return normalized;
+    }
+
+    public boolean isEmpty() {
+        return normalized.isEmpty();
+    }
+
+    // 1000 exact, 750 when one contains the other, otherwise up to 600 by the better of token
+    // overlap and trigram (Dice) similarity; the trigrams catch spelling variants that share no token.
+    public int score(TitleFeatures candidate) {
+        if (isEmpty() || candidate.isEmpty()) {
+            return 0;
+        }
+        if (normalized.equals(candidate.normalized)) {
+            return 1000;
+        }
+        if (normalized.contains(candidate.normalized) || candidate.normalized.contains(normalized)) {
+            return 750;
+        }
+        double tokenSimilarity = tokenOverlap(tokens, candidate.tokens)
+                / (double) Math.max(tokens.length, candidate.tokens.length);
+        double trigramSimilarity = 2d * trigramOverlap(trigrams, candidate.trigrams)
+                / (trigrams.length + candidate.trigrams.length);
+        return (int) (Math.max(tokenSimilarity, trigramSimilarity) * 600);
+    }
+
+    private static String[] tokens(String normalized) {
+        String[] split = normalized.split(" ");
+        Arrays.sort(split);
+        int distinct = 0;
+        for (String token : split) {
+            if (distinct == 0 || !split[distinct - 1].equals(token)) {
+                split[distinct++] = token;
+            }
+        }
+        return distinct == split.length ? split : Arrays.copyOf(split, distinct);
+    }
+
+    // Normalized titles are [a-z0-9 ] only, so three chars pack into one long; padded with a space
+    // on each side so word boundaries count.
+    private static long[] trigrams(String normalized) {
+        String padded = " " + normalized + " ";
+        long[] grams = new long[Math.max(0, padded.length() - 2)];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (long gram : grams) {
+            if (distinct == 0 || grams[distinct - 1] != gram) {
+                grams[distinct++] = gram;
+            }
+        }
+        return distinct == grams.length ? grams : Arrays.copyOf(grams, distinct);
+    }
+
+    private static int tokenOverlap(String[] left, String[] right) {
+        int overlap = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            int cmp = left[i].compareTo(right[j]);
+            if (cmp == 0) {
+                overlap++;
+                i++;
+                j++;
+            } else if (cmp < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return overlap;
+    }
+
+    private static int trigramOverlap(long[] left, long[] right) {
+        int overlap = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                overlap++;
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return overlap;
+    }
+}
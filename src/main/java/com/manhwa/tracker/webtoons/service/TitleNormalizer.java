@@ -1,8 +1,13 @@
 package com.manhwa.tracker.webtoons.service;
 
 import java.text.Normalizer;
+import java.util.regex.Pattern;
 
 public final class TitleNormalizer {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    // Also collapses whitespace runs, so no separate whitespace pass is needed.
+    private static final Pattern NON_ALNUM = Pattern.compile("[^a-z0-9]+");
+
     private TitleNormalizer() {
     }
 
@@ -14,11 +19,9 @@ public final class TitleNormalizer {
         if (value.isEmpty()) {
             return "";
         }
-        String normalized = Normalizer.normalize(value, Normalizer.Form.NFKD)
-                .replaceAll("\\p{M}+", "");
+        String normalized = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFKD)).replaceAll("");
         normalized = normalized.toLowerCase();
-        normalized = normalized.replaceAll("[^a-z0-9]+", " ").trim();
-        normalized = normalized.replaceAll("\\s+", " ");
+        normalized = NON_ALNUM.matcher(normalized).replaceAll(" ").trim();
         return normalized;
     }
 }
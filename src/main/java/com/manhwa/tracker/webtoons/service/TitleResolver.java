@@ -0,0 +1,193 @@
+package com.manhwa.tracker.webtoons.service;
+
+import com.manhwa.tracker.webtoons.model.Manhwa;
+import com.manhwa.tracker.webtoons.repository.ManhwaRepository;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// Chunk-level title -> manhwa id resolution for the scrape processors. Titles are registered
+// as the reader hands them out; the first resolve() of a chunk matches every pending title
+// against the AliasIndex and looks the rest up with one canonical_title = ANY(?) query.
+// Results (misses included) are kept while any scrape step is running. The matched Manhwa
+// entities are loaded per chunk transaction with one findAllById, so processors get managed
+// entities without a findById per item.
+@Component
+public class TitleResolver implements StepExecutionListener {
+    private static final long MISSING = -1L;
+
+    private static final String CANONICAL_SQL = """
+            SELECT canonical_title, id
+            FROM manhwas
+            WHERE canonical_title = ANY(?)
+            ORDER BY id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AliasIndex aliasIndex;
+    private final ManhwaRepository manhwaRepository;
+    private final Map<String, Long> resolved = new ConcurrentHashMap<>();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeSteps = new AtomicInteger();
+
+    public TitleResolver(JdbcTemplate jdbcTemplate, AliasIndex aliasIndex, ManhwaRepository manhwaRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.aliasIndex = aliasIndex;
+        this.manhwaRepository = manhwaRepository;
+    }
+
+    // Read listener that queues each item's title for the next batch lookup.
+    public <T> ItemReadListener<T> registering(Function<T, String> titleOf) {
+        return new ItemReadListener<>() {
+            @Override
+            public void afterRead(T item) {
+                register(titleOf.apply(item));
+            }
+        };
+    }
+
+    public void register(String title) {
+        if (title == null || title.isBlank()) {
+            return;
+        }
+        ChunkEntities chunk = currentChunk();
+        if (chunk != null) {
+            chunk.titles().add(title);
+        }
+        if (!resolved.containsKey(title)) {
+            pending.add(title);
+        }
+    }
+
+    public Long resolve(String title) {
+        if (title == null || title.isBlank()) {
+            return null;
+        }
+        Long id = resolved.get(title);
+        if (id == null) {
+            pending.add(title);
+            flush();
+            id = resolved.get(title);
+        }
+        return id == null || id == MISSING ? null : id;
+    }
+
+    // The managed entity for a resolved id. The first call of a chunk transaction loads every
+    // manhwa resolved for the chunk's titles at once; outside a transaction it is a plain findById.
+    public Manhwa manhwa(Long manhwaId) {
+        if (manhwaId == null) {
+            return null;
+        }
+        ChunkEntities chunk = currentChunk();
+        if (chunk == null) {
+            return manhwaRepository.findById(manhwaId).orElse(null);
+        }
+        if (!chunk.loaded().containsKey(manhwaId)) {
+            Set<Long> ids = new LinkedHashSet<>();
+            ids.add(manhwaId);
+            for (String title : chunk.titles()) {
+                Long id = resolved.get(title);
+                if (id != null && id != MISSING && !chunk.loaded().containsKey(id)) {
+                    ids.add(id);
+                }
+            }
+            ids.forEach(id -> chunk.loaded().put(id, null));
+            manhwaRepository.findAllById(ids).forEach(manhwa -> chunk.loaded().put(manhwa.getId(), manhwa));
+        }
+        return chunk.loaded().get(manhwaId);
+    }
+
+    // Records a title the processor just created or linked, replacing a cached miss.
+    public void remember(String title, Long manhwaId) {
+        if (title != null && !title.isBlank() && manhwaId != null) {
+            resolved.put(title, manhwaId);
+        }
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        activeSteps.incrementAndGet();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (activeSteps.decrementAndGet() <= 0) {
+            activeSteps.set(0);
+            resolved.clear();
+            pending.clear();
+        }
+        return null;
+    }
+
+    // Bound to the current transaction and dropped when it completes, so entities never outlive
+    // the persistence context that manages them.
+    private ChunkEntities currentChunk() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        ChunkEntities chunk = (ChunkEntities) TransactionSynchronizationManager.getResource(this);
+        if (chunk == null) {
+            chunk = new ChunkEntities(new LinkedHashSet<>(), new HashMap<>());
+            TransactionSynchronizationManager.bindResource(this, chunk);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TitleResolver.this);
+                }
+            });
+        }
+        return chunk;
+    }
+
+    private void flush() {
+        List<String> titles = new ArrayList<>();
+        for (Iterator<String> it = pending.iterator(); it.hasNext(); ) {
+            String title = it.next();
+            it.remove();
+            if (!resolved.containsKey(title)) {
+                titles.add(title);
+            }
+        }
+        if (titles.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> found = new HashMap<>();
+        for (String title : titles) {
+            Long manhwaId = aliasIndex.findTitle(title);
+            if (manhwaId != null) {
+                found.put(title, manhwaId);
+            }
+        }
+
+        List<String> unmatched = titles.stream().filter(title -> !found.containsKey(title)).toList();
+        if (!unmatched.isEmpty()) {
+            jdbcTemplate.query(CANONICAL_SQL, rs -> {
+                found.putIfAbsent(rs.getString("canonical_title"), rs.getLong("id"));
+            }, (Object) unmatched.toArray(new String[0]));
+        }
+
+        for (String title : titles) {
+            resolved.putIfAbsent(title, found.getOrDefault(title, MISSING));
+        }
+    }
+
+    private record ChunkEntities(Set<String> titles, Map<Long, Manhwa> loaded) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.manhwa.tracker.webtoons.service;
+
+// Bounded min-heap over (score, tie, index) for "top k by score" without sorting or boxing
+// every candidate. Higher score wins, then higher tie. O(n log k) for n offers.
+final class TopKSelector {
+    private final int capacity;
+    private final int[] indexes;
+    private final double[] scores;
+    private final double[] ties;
+    private int size;
+
+    TopKSelector(int capacity) {
+        this.capacity = Math.max(0, capacity);
+        this.indexes = new int[this.capacity];
+        this.scores = new double[this.capacity];
+        this.ties = new double[this.capacity];
+    }
+
+    void offer(int index, double score, double tie) {
+        if (capacity == 0) {
+            return;
+        }
+        if (size < capacity) {
+            set(size, index, score, tie);
+            siftUp(size++);
+            return;
+        }
+        if (!ranksAbove(score, tie, scores[0], ties[0])) {
+            return;
+        }
+        set(0, index, score, tie);
+        siftDown(0);
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Empties the heap and returns the selected indexes, best first.
+    int[] drainDescending() {
+        int[] ordered = new int[size];
+        while (size > 0) {
+            ordered[size - 1] = indexes[0];
+            size--;
+            if (size > 0) {
+                set(0, indexes[size], scores[size], ties[size]);
+                siftDown(0);
+            }
+        }
+        return ordered;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!ranksAbove(scores[parent], ties[parent], scores[position], ties[position])) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int left = (position << 1) + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && ranksAbove(scores[left], ties[left], scores[right], ties[right])) {
+                smallest = right;
+            }
+            if (!ranksAbove(scores[position], ties[position], scores[smallest], ties[smallest])) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private boolean ranksAbove(double score, double tie, double otherScore, double otherTie) {
+        int byScore = Double.compare(score, otherScore);
+        return byScore > 0 || (byScore == 0 && Double.compare(tie, otherTie) > 0);
+    }
+
+    private void set(int position, int index, double score, double tie) {
+        indexes[position] = index;
+        scores[position] = score;
+        ties[position] = tie;
+    }
+
+    private void swap(int a, int b) {
+        int index = indexes[a];
+        double score = scores[a];
+        double tie = ties[a];
+        set(a, indexes[b], scores[b], ties[b]);
+        set(b, index, score, tie);
+    }
+}
@@ -0,0 +1,89 @@
+package com.manhwa.tracker.webtoons.service;
+
+import com.manhwa.tracker.webtoons.model.MetricType;
+import com.manhwa.tracker.webtoons.model.RankingWindow;
+import com.manhwa.tracker.webtoons.model.TrendingManhwaDTO;
+import com.manhwa.tracker.webtoons.model.TrendingRankingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Bounded LRU of finished /api/trending responses. An entry is served only while the snapshot
+// generation it was built under is still current and it is younger than the TTL; the TTL covers
+// the NOW()-relative parts of a response (freshness window, snapshotAgeHours).
+@Component
+public class TrendingResponseCache {
+    private final SnapshotGeneration snapshotGeneration;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Map<Key, Entry> entries;
+
+    public TrendingResponseCache(
+            SnapshotGeneration snapshotGeneration,
+            @Value("${app.ranking.cache.enabled:true}") boolean enabled,
+            @Value("${app.ranking.cache.max-entries:500}") int maxEntries,
+            @Value("${app.ranking.cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.snapshotGeneration = snapshotGeneration;
+        this.enabled = enabled;
+        this.ttlMillis = Duration.ofSeconds(Math.max(1L, ttlSeconds)).toMillis();
+        int capacity = Math.max(1, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public Entry get(Key key, Supplier<List<TrendingManhwaDTO>> loader) {
+        long generation = snapshotGeneration.current();
+        if (!enabled) {
+            return Entry.of(key, generation, loader.get());
+        }
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry cached = entries.get(key);
+            if (cached != null && cached.generation() == generation && now - cached.createdAtMillis() < ttlMillis) {
+                return cached;
+            }
+        }
+        // Computed outside the lock; concurrent misses for one key may both load, last write wins.
+        Entry loaded = Entry.of(key, generation, loader.get());
+        synchronized (entries) {
+            entries.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public record Key(
+            MetricType metricType,
+            Integer sourceId,
+            int limit,
+            TrendingRankingMode rankingMode,
+            RankingWindow window,
+            String genre,
+            Long minPreviousValue
+    ) {
+    }
+
+    public record Entry(List<TrendingManhwaDTO> items, String etag, long generation, long createdAtMillis) {
+        private static Entry of(Key key, long generation, List<TrendingManhwaDTO> items) {
+            List<TrendingManhwaDTO> copy = List.copyOf(items);
+            // Content-derived so a rebuild with identical rows keeps the same validator.
+            String etag = "W/\"" + Integer.toHexString(key.hashCode()) + "-" + Integer.toHexString(copy.hashCode()) + "\"";
+            return new Entry(copy, etag, generation, System.currentTimeMillis());
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.manhwa.tracker.webtoons.service;
 
+import com.manhwa.tracker.webtoons.model.BoardSpec;
 import com.manhwa.tracker.webtoons.model.MetricType;
 import com.manhwa.tracker.webtoons.model.RankingWindow;
+import com.manhwa.tracker.webtoons.model.SnapshotsCommittedEvent;
+import com.manhwa.tracker.webtoons.model.TrendingBoardDTO;
 import com.manhwa.tracker.webtoons.model.TrendingManhwaDTO;
 import com.manhwa.tracker.webtoons.model.TrendingRankingMode;
 import com.manhwa.tracker.webtoons.repository.MetricSnapshotRepository;
+import com.manhwa.tracker.webtoons.repository.RankingRow;
 import com.manhwa.tracker.webtoons.repository.TrendingProjection;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -12,36 +16,54 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
 
 @Service
 public class TrendingService {
     private static final int MAX_FETCH_LIMIT = 300;
 
     private final MetricSnapshotRepository metricSnapshotRepository;
-    private final String excludedGenresRegex;
+    private final MaterializedRankingStore materializedRankingStore;
+    private final ColumnarRankingEngine columnarRankingEngine;
+    private final TrendingResponseCache responseCache;
+    private final SnapshotGeneration snapshotGeneration;
+    private final GenreIndexService genreIndexService;
     private final long breakoutMinPreviousDefault;
     private final long breakoutMinPreviousWebtoons;
     private final long breakoutMinPreviousAsura;
     private final long breakoutMinPreviousTapas;
+    private final List<MaterializedRankingStore.BoardKey> eagerBoards;
 
     public TrendingService(
             MetricSnapshotRepository metricSnapshotRepository,
-            @Value("${app.ranking.excluded-genres:}") String excludedGenres,
+            MaterializedRankingStore materializedRankingStore,
+            ColumnarRankingEngine columnarRankingEngine,
+            TrendingResponseCache responseCache,
+            SnapshotGeneration snapshotGeneration,
+            GenreIndexService genreIndexService,
             @Value("${app.ranking.breakout.min-previous-value.default:30000}") long breakoutMinPreviousDefault,
             @Value("${app.ranking.breakout.min-previous-value.webtoons:50000}") long breakoutMinPreviousWebtoons,
             @Value("${app.ranking.breakout.min-previous-value.asura:5000}") long breakoutMinPreviousAsura,
-            @Value("${app.ranking.breakout.min-previous-value.tapas:20000}") long breakoutMinPreviousTapas
+            @Value("${app.ranking.breakout.min-previous-value.tapas:20000}") long breakoutMinPreviousTapas,
+            @Value("${app.ranking.materialization.eager-boards:VIEWS/RATE/WEEKLY/all}") String eagerBoardsCsv
     ) {
         this.metricSnapshotRepository = metricSnapshotRepository;
-        this.excludedGenresRegex = buildExcludedGenresRegex(excludedGenres);
+        this.materializedRankingStore = materializedRankingStore;
+        this.columnarRankingEngine = columnarRankingEngine;
+        this.responseCache = responseCache;
+        this.snapshotGeneration = snapshotGeneration;
+        this.genreIndexService = genreIndexService;
         this.breakoutMinPreviousDefault = Math.max(0, breakoutMinPreviousDefault);
         this.breakoutMinPreviousWebtoons = Math.max(0, breakoutMinPreviousWebtoons);
         this.breakoutMinPreviousAsura = Math.max(0, breakoutMinPreviousAsura);
         this.breakoutMinPreviousTapas = Math.max(0, breakoutMinPreviousTapas);
+        this.eagerBoards = parseEagerBoards(eagerBoardsCsv);
     }
 
     public List<TrendingManhwaDTO> getTrending(
@@ -52,66 +74,355 @@ public class TrendingService {
             RankingWindow window,
             String genre,
             Long minPreviousValue
+    ) {
+        return getTrendingEntry(metricType, sourceId, limit, rankingMode, window, genre, minPreviousValue).items();
+    }
+
+    // Cached response plus its validator, for callers that support conditional requests.
+    public TrendingResponseCache.Entry getTrendingEntry(
+            MetricType metricType,
+            Integer sourceId,
+            int limit,
+            TrendingRankingMode rankingMode,
+            RankingWindow window,
+            String genre,
+            Long minPreviousValue
+    ) {
+        TrendingResponseCache.Key key = new TrendingResponseCache.Key(
+                metricType,
+                sourceId,
+                limit,
+                rankingMode,
+                window == null ? RankingWindow.WEEKLY : window,
+                normalizeGenre(genre),
+                minPreviousValue
+        );
+        return responseCache.get(key, () -> computeTrending(
+                metricType,
+                sourceId,
+                limit,
+                rankingMode,
+                window,
+                genre,
+                minPreviousValue
+        ));
+    }
+
+    private List<TrendingManhwaDTO> computeTrending(
+            MetricType metricType,
+            Integer sourceId,
+            int limit,
+            TrendingRankingMode rankingMode,
+            RankingWindow window,
+            String genre,
+            Long minPreviousValue
     ) {
         RankingWindow effectiveWindow = window == null ? RankingWindow.WEEKLY : window;
-        int windowDays = effectiveWindow.days();
-        int fetchLimit = computeFetchLimit(limit, genre);
+        String effectiveGenre = normalizeGenre(genre);
+        int fetchLimit = Math.min(MAX_FETCH_LIMIT, Math.max(1, limit));
         Long effectiveMinPreviousValue = resolveMinPreviousValue(
                 rankingMode,
                 sourceId,
                 minPreviousValue,
-                windowDays
+                effectiveWindow.days()
         );
 
-        List<TrendingProjection> rows = switch (rankingMode) {
+        List<? extends TrendingProjection> rows = materializedRankingStore.isEnabled()
+                ? materializedRows(metricType, sourceId, rankingMode, effectiveWindow, effectiveGenre, effectiveMinPreviousValue)
+                : fetchRows(
+                        metricType,
+                        sourceId,
+                        fetchLimit,
+                        rankingMode,
+                        effectiveWindow,
+                        genreIndexService.filterFor(effectiveGenre),
+                        effectiveMinPreviousValue
+                );
+        return toDtos(rows, metricType, rankingMode, effectiveWindow, limit);
+    }
+
+    // Ranks several boards while loading each (metric, source) working set only once.
+    public List<TrendingBoardDTO> getTrendingBoards(List<BoardSpec> specs) {
+        Map<WorkingSetKey, RankingWorkingSet> workingSets = new HashMap<>();
+        List<TrendingBoardDTO> boards = new ArrayList<>(specs.size());
+        for (BoardSpec spec : specs) {
+            MetricType metricType = spec.getMetric() == null ? MetricType.VIEWS : spec.getMetric();
+            Integer sourceId = spec.getSourceId();
+            TrendingRankingMode rankingMode = spec.getMode() == null ? TrendingRankingMode.RATE : spec.getMode();
+            RankingWindow window = spec.getWindow() == null ? RankingWindow.WEEKLY : spec.getWindow();
+            int limit = spec.getLimit() == null ? 10 : spec.getLimit();
+            String genre = normalizeGenre(spec.getGenre());
+            GenreFilter genreFilter = genreIndexService.filterFor(genre);
+            Long minPreviousValue = resolveMinPreviousValue(
+                    rankingMode,
+                    sourceId,
+                    spec.getMinPreviousValue(),
+                    window.days()
+            );
+            Function<MetricType, RankingWorkingSet> workingSet = metric -> workingSets.computeIfAbsent(
+                    new WorkingSetKey(metric, sourceId),
+                    key -> loadWorkingSet(key.metricType(), key.sourceId())
+            );
+
+            List<? extends TrendingProjection> rows;
+            if (materializedRankingStore.isEnabled()) {
+                MaterializedRankingStore.BoardKey key = new MaterializedRankingStore.BoardKey(
+                        metricType,
+                        sourceId,
+                        rankingMode,
+                        window,
+                        genre,
+                        minPreviousValue
+                );
+                rows = materializedRankingStore.get(key)
+                        .orElseGet(() -> materializedRankingStore.put(key, rankWorkingSet(
+                                workingSet,
+                                metricType,
+                                materializedRankingStore.maxRows(),
+                                rankingMode,
+                                window,
+                                genreFilter,
+                                minPreviousValue
+                        )))
+                        .rows();
+            } else {
+                rows = rankWorkingSet(
+                        workingSet,
+                        metricType,
+                        Math.min(MAX_FETCH_LIMIT, Math.max(1, limit)),
+                        rankingMode,
+                        window,
+                        genreFilter,
+                        minPreviousValue
+                );
+            }
+            boards.add(new TrendingBoardDTO(
+                    spec.getId(),
+                    metricType,
+                    sourceId,
+                    rankingMode,
+                    window,
+                    spec.getGenre(),
+                    toDtos(rows, metricType, rankingMode, window, limit)
+            ));
+        }
+        return boards;
+    }
+
+    public void refreshMaterializedRankings() {
+        // Jobs may have introduced new genres; reload ids before re-ranking genre boards.
+        genreIndexService.reload();
+        if (columnarRankingEngine.isEnabled()) {
+            columnarRankingEngine.refreshCatalog();
+        }
+        if (materializedRankingStore.isEnabled()) {
+            // Only the configured boards are rebuilt eagerly; any other board is ranked again on
+            // its next read, so one-off genre or floor parameters cost nothing after a job.
+            materializedRankingStore.clear();
+            for (MaterializedRankingStore.BoardKey key : eagerBoards) {
+                materialize(key);
+            }
+        }
+        // Covers, titles and boards may have changed even if no chunk committed.
+        snapshotGeneration.bump();
+    }
+
+    // Re-scores only the titles in a committed chunk and patches them into every standing
+    // board they can appear on; the rest of each board keeps its materialized rows.
+    public int patchMaterializedBoards(SnapshotsCommittedEvent event) {
+        if (!materializedRankingStore.isEnabled()) {
+            return 0;
+        }
+        Set<Long> manhwaIds = event.manhwaIds();
+        if (manhwaIds.isEmpty()) {
+            return 0;
+        }
+        Map<WorkingSetKey, RankingWorkingSet> workingSets = new HashMap<>();
+        int patched = 0;
+        for (MaterializedRankingStore.BoardKey key : materializedRankingStore.keys()) {
+            boolean touched = event.touches(key.metricType(), key.sourceId())
+                    || (key.rankingMode() == TrendingRankingMode.ENGAGEMENT
+                    && event.touches(MetricType.VIEWS, key.sourceId()));
+            if (!touched) {
+                continue;
+            }
+            List<RankingRow> rescored = rankWorkingSet(
+                    metric -> workingSets.computeIfAbsent(
+                            new WorkingSetKey(metric, key.sourceId()),
+                            workingSetKey -> loadWorkingSet(workingSetKey.metricType(), workingSetKey.sourceId(), manhwaIds)
+                    ),
+                    key.metricType(),
+                    manhwaIds.size(),
+                    key.rankingMode(),
+                    key.window(),
+                    genreIndexService.filterFor(key.genre()),
+                    key.minPreviousValue()
+            );
+            if (materializedRankingStore.patch(key, manhwaIds, rescored)) {
+                patched++;
+            }
+        }
+        return patched;
+    }
+
+    private List<TrendingManhwaDTO> toDtos(
+            List<? extends TrendingProjection> rows,
+            MetricType metricType,
+            TrendingRankingMode rankingMode,
+            RankingWindow window,
+            int limit
+    ) {
+        return rows.stream()
+                .map(row -> toDto(row, metricType, rankingMode, window.days()))
+                .limit(limit)
+                .toList();
+    }
+
+    private List<RankingRow> materializedRows(
+            MetricType metricType,
+            Integer sourceId,
+            TrendingRankingMode rankingMode,
+            RankingWindow window,
+            String genre,
+            Long minPreviousValue
+    ) {
+        MaterializedRankingStore.BoardKey key = new MaterializedRankingStore.BoardKey(
+                metricType,
+                sourceId,
+                rankingMode,
+                window,
+                genre,
+                minPreviousValue
+        );
+        return materializedRankingStore.get(key)
+                .orElseGet(() -> materialize(key))
+                .rows();
+    }
+
+    private MaterializedRankingStore.Board materialize(MaterializedRankingStore.BoardKey key) {
+        List<RankingRow> rows = fetchRows(
+                key.metricType(),
+                key.sourceId(),
+                materializedRankingStore.maxRows(),
+                key.rankingMode(),
+                key.window(),
+                genreIndexService.filterFor(key.genre()),
+                key.minPreviousValue()
+        ).stream()
+                .map(RankingRow::copyOf)
+                .toList();
+        return materializedRankingStore.put(key, rows);
+    }
+
+    private List<? extends TrendingProjection> fetchRows(
+            MetricType metricType,
+            Integer sourceId,
+            int fetchLimit,
+            TrendingRankingMode rankingMode,
+            RankingWindow window,
+            GenreFilter genreFilter,
+            Long minPreviousValue
+    ) {
+        if (columnarRankingEngine.isEnabled()) {
+            return rankWorkingSet(
+                    metric -> columnarRankingEngine.workingSet(metric, sourceId),
+                    metricType,
+                    fetchLimit,
+                    rankingMode,
+                    window,
+                    genreFilter,
+                    minPreviousValue
+            );
+        }
+        String includedGenreIds = genreFilter.includeSqlArray();
+        String excludedGenreIds = genreFilter.excludeSqlArray();
+        return switch (rankingMode) {
             case TOTAL -> metricSnapshotRepository.findTrendingTotal(
                     metricType.name(),
                     sourceId,
                     fetchLimit,
-                    excludedGenresRegex
+                    includedGenreIds,
+                    excludedGenreIds
             );
             case ENGAGEMENT -> metricSnapshotRepository.findTrendingEngagement(
                     metricType.name(),
                     MetricType.VIEWS.name(),
                     sourceId,
                     fetchLimit,
-                    excludedGenresRegex
+                    includedGenreIds,
+                    excludedGenreIds
             );
             case ACCELERATION -> metricSnapshotRepository.findTrendingAcceleration(
                     metricType.name(),
                     sourceId,
                     fetchLimit,
-                    excludedGenresRegex
+                    includedGenreIds,
+                    excludedGenreIds
+            );
+            case SOCIAL -> rescoreSocial(
+                    fetchRows(
+                            metricType,
+                            sourceId,
+                            fetchLimit,
+                            TrendingRankingMode.RATE,
+                            window,
+                            genreFilter,
+                            minPreviousValue
+                    ),
+                    fetchLimit
             );
-            case SOCIAL -> computeSocialRows(metricType, sourceId, fetchLimit, effectiveMinPreviousValue, windowDays);
             default -> metricSnapshotRepository.findTrendingGrowth(
                     metricType.name(),
                     sourceId,
                     fetchLimit,
                     rankingMode.name(),
-                    excludedGenresRegex,
-                    effectiveMinPreviousValue,
-                    windowDays
+                    includedGenreIds,
+                    excludedGenreIds,
+                    minPreviousValue,
+                    window.days()
             );
         };
+    }
 
-        List<TrendingManhwaDTO> mapped = rows.stream()
-                .filter(row -> matchesGenre(row, genre))
-                .map(row -> toDto(row, metricType, rankingMode, windowDays))
-                .limit(limit)
-                .toList();
+    private List<RankingRow> rankWorkingSet(
+            Function<MetricType, RankingWorkingSet> workingSet,
+            MetricType metricType,
+            int fetchLimit,
+            TrendingRankingMode rankingMode,
+            RankingWindow window,
+            GenreFilter genreFilter,
+            Long minPreviousValue
+    ) {
+        RankingWorkingSet set = workingSet.apply(metricType);
+        return switch (rankingMode) {
+            case TOTAL -> set.rankTotal(genreFilter, fetchLimit);
+            case ENGAGEMENT -> set.rankEngagement(workingSet.apply(MetricType.VIEWS), genreFilter, fetchLimit);
+            case ACCELERATION -> set.rankAcceleration(genreFilter, fetchLimit);
+            case SOCIAL -> rescoreSocial(
+                    set.rankGrowth(TrendingRankingMode.RATE, window, minPreviousValue, genreFilter, fetchLimit),
+                    fetchLimit
+            );
+            default -> set.rankGrowth(rankingMode, window, minPreviousValue, genreFilter, fetchLimit);
+        };
+    }
 
-        if (rankingMode == TrendingRankingMode.SOCIAL) {
-            // Ensure explicit score ordering for SOCIAL mode after confidence enrichment.
-            mapped = mapped.stream()
-                    .sorted(Comparator.comparing(
-                            TrendingManhwaDTO::getRankingScore,
-                            Comparator.nullsLast(Comparator.reverseOrder())
-                    ))
-                    .limit(limit)
-                    .toList();
+    private RankingWorkingSet loadWorkingSet(MetricType metricType, Integer sourceId) {
+        return loadWorkingSet(metricType, sourceId, null);
+    }
+
+    private RankingWorkingSet loadWorkingSet(MetricType metricType, Integer sourceId, Set<Long> onlyIds) {
+        if (columnarRankingEngine.isEnabled()) {
+            return columnarRankingEngine.workingSet(metricType, sourceId, onlyIds);
         }
-        return mapped;
+        // Shared across boards, so only the global exclusions are pushed into SQL.
+        return RankingWorkingSet.fromProjections(metricSnapshotRepository.findRankingWorkingSet(
+                metricType.name(),
+                sourceId,
+                genreIndexService.filterFor(null).excludeSqlArray(),
+                onlyIds == null ? "{}" : toSqlArray(onlyIds),
+                RankingWindow.DAILY.days(),
+                RankingWindow.WEEKLY.days()
+        ));
     }
 
     private TrendingManhwaDTO toDto(
@@ -145,44 +456,73 @@ public class TrendingService {
         );
     }
 
-    private List<TrendingProjection> computeSocialRows(
-            MetricType metricType,
-            Integer sourceId,
-            int fetchLimit,
-            Long minPreviousValue,
-            int windowDays
-    ) {
-        List<TrendingProjection> baseRows = metricSnapshotRepository.findTrendingGrowth(
-                metricType.name(),
-                sourceId,
-                fetchLimit,
-                TrendingRankingMode.RATE.name(),
-                excludedGenresRegex,
-                minPreviousValue,
-                windowDays
-        );
-        List<ScoredProjection> scored = new ArrayList<>(baseRows.size());
-        for (TrendingProjection row : baseRows) {
+    private List<RankingRow> rescoreSocial(List<? extends TrendingProjection> baseRows, int fetchLimit) {
+        double[] scores = new double[baseRows.size()];
+        TopKSelector top = new TopKSelector(fetchLimit);
+        for (int i = 0; i < baseRows.size(); i++) {
+            TrendingProjection row = baseRows.get(i);
             double rate = Math.max(0d, safeDouble(row.getGrowthPerDay()));
             double abs = Math.max(0d, row.getGrowth() == null ? 0d : row.getGrowth());
             double pct = Math.max(0d, safeDouble(row.getGrowthPercent()) * 100d);
-            double score = (0.45d * Math.log1p(rate))
+            scores[i] = (0.45d * Math.log1p(rate))
                     + (0.35d * Math.log1p(abs))
                     + (0.20d * Math.log1p(pct));
-            scored.add(new ScoredProjection(row, score));
+            // Equal scores keep the RATE order of the base query.
+            top.offer(i, scores[i], -i);
         }
-        return scored.stream()
-                .sorted(Comparator.comparingDouble(ScoredProjection::score).reversed())
-                .map(ScoredProjection::asProjection)
-                .toList();
+        List<RankingRow> ranked = new ArrayList<>(top.size());
+        for (int i : top.drainDescending()) {
+            ranked.add(RankingRow.copyOf(baseRows.get(i)).withRankingScore(scores[i]));
+        }
+        return ranked;
     }
 
-    private int computeFetchLimit(int limit, String genre) {
-        int expanded = Math.max(1, limit);
-        if (genre != null && !genre.isBlank()) {
-            expanded = Math.min(MAX_FETCH_LIMIT, Math.max(limit * 6, 40));
+    private String toSqlArray(Set<Long> ids) {
+        StringJoiner joiner = new StringJoiner(",", "{", "}");
+        for (Long id : ids) {
+            joiner.add(String.valueOf(id));
         }
-        return Math.min(MAX_FETCH_LIMIT, expanded);
+        return joiner.toString();
+    }
+
+    private String normalizeGenre(String genre) {
+        return genre == null || genre.isBlank() ? null : genre.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Entries are metric/mode/window/source, with source "all" for every source.
+    private List<MaterializedRankingStore.BoardKey> parseEagerBoards(String csv) {
+        List<MaterializedRankingStore.BoardKey> keys = new ArrayList<>();
+        if (csv == null || csv.isBlank()) {
+            return keys;
+        }
+        for (String entry : csv.split(",")) {
+            String spec = entry.trim();
+            if (spec.isEmpty()) {
+                continue;
+            }
+            String[] parts = spec.split("/");
+            try {
+                if (parts.length != 4) {
+                    throw new IllegalArgumentException("expected metric/mode/window/source");
+                }
+                MetricType metricType = MetricType.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+                TrendingRankingMode rankingMode = TrendingRankingMode.valueOf(parts[1].trim().toUpperCase(Locale.ROOT));
+                RankingWindow window = RankingWindow.valueOf(parts[2].trim().toUpperCase(Locale.ROOT));
+                String source = parts[3].trim();
+                Integer sourceId = "all".equalsIgnoreCase(source) ? null : Integer.valueOf(source);
+                keys.add(new MaterializedRankingStore.BoardKey(
+                        metricType,
+                        sourceId,
+                        rankingMode,
+                        window,
+                        null,
+                        resolveMinPreviousValue(rankingMode, sourceId, null, window.days())
+                ));
+            } catch (IllegalArgumentException ex) {
+                System.out.println("WARN: Ignoring eager ranking board '" + spec + "' : " + ex.getMessage());
+            }
+        }
+        return List.copyOf(keys);
     }
 
     private Long resolveMinPreviousValue(
@@ -207,24 +547,6 @@ public class TrendingService {
         return Math.max(0L, Math.round(sourceBase * scale));
     }
 
-    private boolean matchesGenre(TrendingProjection row, String filter) {
-        if (filter == null || filter.isBlank()) {
-            return true;
-        }
-        String genre = row.getGenre();
-        if (genre == null || genre.isBlank()) {
-            return false;
-        }
-        String normalizedGenre = genre.toLowerCase(Locale.ROOT);
-        for (String token : filter.split(",")) {
-            String normalizedToken = token.trim().toLowerCase(Locale.ROOT);
-            if (!normalizedToken.isEmpty() && normalizedGenre.contains(normalizedToken)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private Confidence computeConfidence(TrendingProjection row, int windowDays) {
         int snapshotAgeHours = 999;
         if (row.getLatestAt() != null) {
@@ -279,39 +601,7 @@ public class TrendingService {
         return value;
     }
 
-    private String buildExcludedGenresRegex(String excludedGenres) {
-        if (excludedGenres == null || excludedGenres.isBlank()) {
-            return null;
-        }
-        List<String> patterns = Arrays.stream(excludedGenres.split(","))
-                .map(String::trim)
-                .filter(token -> !token.isEmpty())
-                .map(this::toFlexibleGenrePattern)
-                .toList();
-        if (patterns.isEmpty()) {
-            return null;
-        }
-        return "(" + String.join("|", patterns) + ")";
-    }
-
-    private String toFlexibleGenrePattern(String genre) {
-        String[] parts = genre.trim().split("[\\s-]+");
-        if (parts.length == 0) {
-            return sanitizeGenreToken(genre.trim());
-        }
-        return Arrays.stream(parts)
-                .map(this::sanitizeGenreToken)
-                .filter(token -> !token.isBlank())
-                .reduce((left, right) -> left + "[[:space:]-]*" + right)
-                .orElse(sanitizeGenreToken(genre.trim()));
-    }
-
-    private String sanitizeGenreToken(String value) {
-        if (value == null || value.isBlank()) {
-            return "";
-        }
-        // Keep alnum tokens only; this avoids DB regex escape incompatibilities (e.g. \Q...\E).
-        return value.toLowerCase().replaceAll("[^a-z0-9]+", "");
+    private record WorkingSetKey(MetricType metricType, Integer sourceId) {
     }
 
     private record Confidence(
@@ -321,80 +611,4 @@ public class TrendingService {
             double baselineCoverage
     ) {
     }
-
-    private record ScoredProjection(TrendingProjection row, double score) {
-        private TrendingProjection asProjection() {
-            return new TrendingProjection() {
-                @Override
-                public Long getManhwaId() {
-                    return row.getManhwaId();
-                }
-
-                @Override
-                public String getTitle() {
-                    return row.getTitle();
-                }
-
-                @Override
-                public String getGenre() {
-                    return row.getGenre();
-                }
-
-                @Override
-                public String getCoverImageUrl() {
-                    return row.getCoverImageUrl();
-                }
-
-                @Override
-                public String getReadUrl() {
-                    return row.getReadUrl();
-                }
-
-                @Override
-                public Long getLatestValue() {
-                    return row.getLatestValue();
-                }
-
-                @Override
-                public LocalDateTime getLatestAt() {
-                    return row.getLatestAt();
-                }
-
-                @Override
-                public Long getPreviousValue() {
-                    return row.getPreviousValue();
-                }
-
-                @Override
-                public LocalDateTime getPreviousAt() {
-                    return row.getPreviousAt();
-                }
-
-                @Override
-                public Long getGrowth() {
-                    return row.getGrowth();
-                }
-
-                @Override
-                public Double getBaselineDays() {
-                    return row.getBaselineDays();
-                }
-
-                @Override
-                public Double getGrowthPerDay() {
-                    return row.getGrowthPerDay();
-                }
-
-                @Override
-                public Double getGrowthPercent() {
-                    return row.getGrowthPercent();
-                }
-
-                @Override
-                public Double getRankingScore() {
-                    return score;
-                }
-            };
-        }
-    }
 }
@@ -0,0 +1,10 @@
+-- Genres scraped from Tapas /info pages, cached across runs so unchanged series are not
+-- refetched until the entry is older than app.tapas.info-genre.ttl-hours.
+CREATE TABLE tapas_info_genres (
+    series_url TEXT PRIMARY KEY,
+    genres TEXT,
+    fetched_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_tapas_info_genres_fetched_at
+    ON tapas_info_genres (fetched_at);
@@ -0,0 +1,16 @@
+-- MangaUpdates enrichment requests written by the scrape steps and drained by
+-- MangaUpdatesEnrichmentWorker. One row per manhwa: enriched_at IS NULL means pending,
+-- and a re-request is ignored until enriched_at is older than
+-- app.mangaupdates.enrichment.refresh-hours.
+CREATE TABLE manhwa_enrichment_queue (
+    manhwa_id BIGINT PRIMARY KEY REFERENCES manhwas (id) ON DELETE CASCADE,
+    title_hint TEXT,
+    requested_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    enriched_at TIMESTAMP WITHOUT TIME ZONE,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT
+);
+
+CREATE INDEX idx_manhwa_enrichment_queue_pending
+    ON manhwa_enrichment_queue (requested_at)
+    WHERE enriched_at IS NULL;
@@ -0,0 +1,9 @@
+-- Last MangaUpdates payload applied per manhwa. fetched_at drives the refresh TTL
+-- (app.mangaupdates.enrichment.refresh-hours) and content_hash lets an unchanged payload
+-- skip the manhwa/alias/external id rewrites. A NULL series_id records a lookup with no match.
+CREATE TABLE manhwa_enrichment_state (
+    manhwa_id BIGINT PRIMARY KEY REFERENCES manhwas (id) ON DELETE CASCADE,
+    series_id TEXT,
+    content_hash VARCHAR(64),
+    fetched_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
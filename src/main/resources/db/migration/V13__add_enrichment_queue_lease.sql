@@ -0,0 +1,5 @@
+-- A claimed queue row is leased until claimed_until instead of being row-locked for the whole
+-- MangaUpdates lookup; a worker that dies mid-item leaves the row to be claimed again once the
+-- lease runs out.
+ALTER TABLE manhwa_enrichment_queue
+    ADD COLUMN claimed_until TIMESTAMP WITHOUT TIME ZONE;
@@ -0,0 +1,41 @@
+CREATE TABLE metric_latest (
+    manhwa_id BIGINT NOT NULL,
+    source_id INTEGER NOT NULL,
+    metric_type VARCHAR(32) NOT NULL,
+    latest_value BIGINT NOT NULL,
+    latest_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    previous_value BIGINT,
+    previous_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_metric_latest
+        PRIMARY KEY (manhwa_id, source_id, metric_type)
+);
+
+CREATE INDEX idx_metric_latest_metric_source_latest
+    ON metric_latest (metric_type, source_id, latest_at DESC);
+
+INSERT INTO metric_latest (manhwa_id, source_id, metric_type, latest_value, latest_at, previous_value, previous_at)
+SELECT ranked.manhwa_id,
+       ranked.source_id,
+       ranked.metric_type,
+       ranked.metric_value,
+       ranked.captured_at,
+       ranked.previous_value,
+       ranked.previous_at
+FROM (
+    SELECT ms.manhwa_id,
+           ms.source_id,
+           ms.metric_type,
+           ms.metric_value,
+           ms.captured_at,
+           LEAD(ms.metric_value) OVER w AS previous_value,
+           LEAD(ms.captured_at) OVER w AS previous_at,
+           ROW_NUMBER() OVER w AS rn
+    FROM metric_snapshots ms
+    WHERE ms.manhwa_id IS NOT NULL
+      AND ms.source_id IS NOT NULL
+    WINDOW w AS (
+        PARTITION BY ms.manhwa_id, ms.source_id, ms.metric_type
+        ORDER BY ms.captured_at DESC, ms.id DESC
+    )
+) ranked
+WHERE ranked.rn = 1;
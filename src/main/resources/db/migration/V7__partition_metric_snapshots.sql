@@ -0,0 +1,53 @@
+ALTER TABLE metric_snapshots RENAME TO metric_snapshots_unpartitioned;
+ALTER INDEX idx_metric_snapshots_manhwa_id
+    RENAME TO idx_metric_snapshots_unpartitioned_manhwa_id;
+ALTER INDEX idx_metric_snapshots_metric_source_manhwa_captured
+    RENAME TO idx_metric_snapshots_unpartitioned_metric_source_manhwa_captured;
+
+-- The partition key has to be part of the primary key; ids stay unique through the shared sequence.
+CREATE TABLE metric_snapshots (
+    id BIGINT NOT NULL DEFAULT nextval('metric_snapshots_id_seq'),
+    manhwa_id BIGINT,
+    source_id INTEGER,
+    metric_type VARCHAR(32) NOT NULL,
+    metric_value BIGINT NOT NULL,
+    captured_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_metric_snapshots PRIMARY KEY (id, captured_at)
+) PARTITION BY RANGE (captured_at);
+
+CREATE TABLE metric_snapshots_default
+    PARTITION OF metric_snapshots DEFAULT;
+
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := (date_trunc('month', NOW()) + INTERVAL '3 months')::date;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(captured_at)), date_trunc('month', NOW()))::date
+      INTO month_start
+      FROM metric_snapshots_unpartitioned;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS %I PARTITION OF metric_snapshots FOR VALUES FROM (%L) TO (%L)',
+                'metric_snapshots_' || to_char(month_start, 'YYYY_MM'),
+                month_start,
+                (month_start + INTERVAL '1 month')::date
+        );
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO metric_snapshots (id, manhwa_id, source_id, metric_type, metric_value, captured_at)
+SELECT id, manhwa_id, source_id, metric_type, metric_value, captured_at
+FROM metric_snapshots_unpartitioned;
+
+ALTER SEQUENCE metric_snapshots_id_seq OWNED BY metric_snapshots.id;
+
+DROP TABLE metric_snapshots_unpartitioned;
+
+CREATE INDEX idx_metric_snapshots_manhwa_id
+    ON metric_snapshots (manhwa_id);
+
+CREATE INDEX idx_metric_snapshots_metric_source_manhwa_captured
+    ON metric_snapshots (metric_type, source_id, manhwa_id, captured_at DESC);
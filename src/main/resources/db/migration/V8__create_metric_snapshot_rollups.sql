@@ -0,0 +1,36 @@
+CREATE TABLE metric_snapshot_rollups (
+    id BIGSERIAL PRIMARY KEY,
+    manhwa_id BIGINT NOT NULL,
+    source_id INTEGER NOT NULL,
+    metric_type VARCHAR(32) NOT NULL,
+    tier VARCHAR(16) NOT NULL,
+    bucket_start TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    first_value BIGINT NOT NULL,
+    first_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    last_value BIGINT NOT NULL,
+    last_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    min_value BIGINT NOT NULL,
+    max_value BIGINT NOT NULL,
+    sample_count INTEGER NOT NULL,
+    CONSTRAINT uk_metric_snapshot_rollups_bucket
+        UNIQUE (manhwa_id, source_id, metric_type, tier, bucket_start)
+);
+
+CREATE INDEX idx_metric_snapshot_rollups_metric_source_manhwa_last
+    ON metric_snapshot_rollups (metric_type, source_id, manhwa_id, last_at DESC);
+
+-- Raw snapshots plus the closing point of every rolled-up bucket, used for baseline selection.
+CREATE VIEW metric_snapshot_points AS
+SELECT manhwa_id,
+       source_id,
+       metric_type,
+       metric_value,
+       captured_at
+FROM metric_snapshots
+UNION ALL
+SELECT manhwa_id,
+       source_id,
+       metric_type,
+       last_value AS metric_value,
+       last_at AS captured_at
+FROM metric_snapshot_rollups;
@@ -0,0 +1,68 @@
+CREATE TABLE genres (
+    id SERIAL PRIMARY KEY,
+    genre_key TEXT NOT NULL,
+    name TEXT NOT NULL,
+    CONSTRAINT uk_genres_genre_key UNIQUE (genre_key)
+);
+
+CREATE TABLE manhwa_genres (
+    manhwa_id BIGINT NOT NULL REFERENCES manhwas (id) ON DELETE CASCADE,
+    genre_id INTEGER NOT NULL REFERENCES genres (id),
+    CONSTRAINT pk_manhwa_genres PRIMARY KEY (manhwa_id, genre_id)
+);
+
+CREATE INDEX idx_manhwa_genres_genre_manhwa
+    ON manhwa_genres (genre_id, manhwa_id);
+
+-- manhwas.genre stays the comma-joined source of truth written by the processors;
+-- the normalized rows follow it on every insert/update.
+CREATE FUNCTION sync_manhwa_genres() RETURNS trigger AS $$
+BEGIN
+    DELETE FROM manhwa_genres WHERE manhwa_id = NEW.id;
+    IF NEW.genre IS NULL OR btrim(NEW.genre) = '' THEN
+        RETURN NEW;
+    END IF;
+
+    INSERT INTO genres (genre_key, name)
+    SELECT DISTINCT ON (parts.genre_key) parts.genre_key, parts.name
+    FROM (
+        SELECT lower(regexp_replace(part, '[^a-zA-Z0-9]+', '', 'g')) AS genre_key,
+               btrim(part) AS name
+        FROM unnest(string_to_array(NEW.genre, ',')) AS part
+    ) parts
+    WHERE parts.genre_key <> ''
+    ORDER BY parts.genre_key
+    ON CONFLICT (genre_key) DO NOTHING;
+
+    INSERT INTO manhwa_genres (manhwa_id, genre_id)
+    SELECT DISTINCT NEW.id, g.id
+    FROM unnest(string_to_array(NEW.genre, ',')) AS part
+    JOIN genres g ON g.genre_key = lower(regexp_replace(part, '[^a-zA-Z0-9]+', '', 'g'))
+    ON CONFLICT DO NOTHING;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_manhwas_sync_genres
+    AFTER INSERT OR UPDATE OF genre ON manhwas
+    FOR EACH ROW
+EXECUTE FUNCTION sync_manhwa_genres();
+
+INSERT INTO genres (genre_key, name)
+SELECT DISTINCT ON (parts.genre_key) parts.genre_key, parts.name
+FROM (
+    SELECT lower(regexp_replace(part, '[^a-zA-Z0-9]+', '', 'g')) AS genre_key,
+           btrim(part) AS name
+    FROM manhwas m
+    CROSS JOIN LATERAL unnest(string_to_array(m.genre, ',')) AS part
+    WHERE m.genre IS NOT NULL
+) parts
+WHERE parts.genre_key <> ''
+ORDER BY parts.genre_key, parts.name;
+
+INSERT INTO manhwa_genres (manhwa_id, genre_id)
+SELECT DISTINCT m.id, g.id
+FROM manhwas m
+CROSS JOIN LATERAL unnest(string_to_array(m.genre, ',')) AS part
+JOIN genres g ON g.genre_key = lower(regexp_replace(part, '[^a-zA-Z0-9]+', '', 'g'))
+WHERE m.genre IS NOT NULL;
@@ -0,0 +1,122 @@
+package com.manhwa.tracker.webtoons.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestThrottleTest {
+
+	@Test
+	void callsPastTheBurstWaitOffTheirTokenDebt() throws Exception {
+		RequestThrottle throttle = new RequestThrottle(1, 10);
+		long started = System.nanoTime();
+
+		for (int i = 0; i < 4; i++) {
+			throttle.call(() -> null);
+		}
+
+		// Burst of one, then one token every 100 ms.
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+		assertTrue(elapsedMs >= 270, "elapsedMs=" + elapsedMs);
+	}
+
+	@Test
+	void failedCallReleasesItsSlot() throws Exception {
+		RequestThrottle throttle = new RequestThrottle(1, 0);
+
+		assertThrows(IOException.class, () -> throttle.call(() -> {
+			throw new IOException("boom");
+		}));
+		assertEquals("ok", throttle.call(() -> "ok"));
+	}
+
+	@Test
+	void submitKeepsAtMostPermitsInFlight() throws Exception {
+		RequestThrottle throttle = new RequestThrottle(2, 0);
+		List<CompletableFuture<Integer>> requests = new ArrayList<>();
+		List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+		for (int i = 0; i < 5; i++) {
+			results.add(throttle.submit(() -> {
+				CompletableFuture<Integer> request = new CompletableFuture<>();
+				requests.add(request);
+				return request;
+			}));
+		}
+		assertEquals(2, requests.size());
+
+		requests.get(0).complete(0);
+		assertEquals(3, requests.size());
+		requests.get(1).complete(1);
+		requests.get(2).complete(2);
+		assertEquals(5, requests.size());
+		requests.get(3).complete(3);
+		requests.get(4).complete(4);
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(i, results.get(i).get(1, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	void submitReleasesTheSlotWhenARequestFails() throws Exception {
+		RequestThrottle throttle = new RequestThrottle(1, 0);
+		AtomicInteger started = new AtomicInteger();
+
+		CompletableFuture<String> failedFuture = throttle.submit(() -> {
+			started.incrementAndGet();
+			return CompletableFuture.failedFuture(new IOException("boom"));
+		});
+		CompletableFuture<String> thrown = throttle.submit(() -> {
+			started.incrementAndGet();
+			throw new IllegalStateException("not sent");
+		});
+		CompletableFuture<String> next = throttle.submit(() -> {
+			started.incrementAndGet();
+			return CompletableFuture.completedFuture("ok");
+		});
+
+		assertEquals("ok", next.get(1, TimeUnit.SECONDS));
+		assertEquals(3, started.get());
+		ExecutionException failure = assertThrows(ExecutionException.class, () -> failedFuture.get(1, TimeUnit.SECONDS));
+		assertInstanceOf(IOException.class, failure.getCause());
+		ExecutionException thrownFailure = assertThrows(ExecutionException.class, () -> thrown.get(1, TimeUnit.SECONDS));
+		assertInstanceOf(IllegalStateException.class, rootCause(thrownFailure));
+	}
+
+	@Test
+	void submitDelaysRequestsPastTheBurstInsteadOfBlocking() throws Exception {
+		RequestThrottle throttle = new RequestThrottle(4, 10);
+		List<CompletableFuture<Long>> results = new ArrayList<>();
+		long started = System.nanoTime();
+
+		for (int i = 0; i < 6; i++) {
+			results.add(throttle.submit(() -> CompletableFuture.completedFuture(System.nanoTime())));
+		}
+		long submitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+		// Four tokens of burst, then one every 100 ms; the caller never waited for them.
+		assertTrue(submitMs < 100, "submitMs=" + submitMs);
+		long lastStartMs = TimeUnit.NANOSECONDS.toMillis(results.get(5).get(2, TimeUnit.SECONDS) - started);
+		assertTrue(lastStartMs >= 170, "lastStartMs=" + lastStartMs);
+	}
+
+	private static Throwable rootCause(Throwable error) {
+		while (error.getCause() != null) {
+			error = error.getCause();
+		}
+		return error;
+	}
+
+}
@@ -0,0 +1,177 @@
+package com.manhwa.tracker.webtoons.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AliasIndexTest {
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void fallsBackToTheTableBeforeTheFirstLoad() {
+		FakeJdbcTemplate jdbc = new FakeJdbcTemplate();
+		jdbc.fallbackIds.add(7L);
+		AliasIndex index = new AliasIndex(jdbc);
+
+		assertEquals(7L, index.find("solo leveling"));
+		assertEquals(List.of("solo leveling"), jdbc.fallbackLookups);
+		assertNull(index.find(""));
+	}
+
+	@Test
+	void loadKeepsTheOldestRowPerTitle() {
+		FakeJdbcTemplate jdbc = new FakeJdbcTemplate();
+		jdbc.rows.add(new Row("solo leveling", 1L));
+		jdbc.rows.add(new Row("solo leveling", 2L));
+		jdbc.rows.add(new Row("tower of god", 3L));
+		AliasIndex index = new AliasIndex(jdbc);
+
+		index.reload();
+
+		assertEquals(1L, index.find("solo leveling"));
+		assertEquals(3L, index.findTitle("Tower of God!"));
+		assertNull(index.find("omniscient reader"));
+		assertEquals(List.of(), jdbc.fallbackLookups);
+	}
+
+	@Test
+	void loadGrowsPastTheInitialCapacity() {
+		FakeJdbcTemplate jdbc = new FakeJdbcTemplate();
+		for (long id = 1; id <= 10_000; id++) {
+			jdbc.rows.add(new Row("title " + id, id));
+		}
+		AliasIndex index = new AliasIndex(jdbc);
+
+		index.reload();
+
+		assertEquals(1L, index.find("title 1"));
+		assertEquals(10_000L, index.find("title 10000"));
+	}
+
+	@Test
+	void addInsideATransactionIsAppliedOnlyAfterCommit() {
+		AliasIndex index = new AliasIndex(new FakeJdbcTemplate());
+		index.reload();
+
+		TransactionSynchronizationManager.initSynchronization();
+		index.add("solo leveling", 5L);
+		assertNull(index.find("solo leveling"));
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCommit();
+		}
+		assertEquals(5L, index.find("solo leveling"));
+	}
+
+	@Test
+	void rolledBackAddIsNeverApplied() {
+		AliasIndex index = new AliasIndex(new FakeJdbcTemplate());
+		index.reload();
+
+		TransactionSynchronizationManager.initSynchronization();
+		index.add("solo leveling", 5L);
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+		}
+
+		assertNull(index.find("solo leveling"));
+	}
+
+	@Test
+	void addCommittedDuringALoadSurvivesTheSwap() {
+		FakeJdbcTemplate jdbc = new FakeJdbcTemplate();
+		jdbc.rows.add(new Row("solo leveling", 1L));
+		AliasIndex index = new AliasIndex(jdbc);
+		jdbc.duringLoad = () -> {
+			index.add("tower of god", 3L);
+			index.add("solo leveling", 9L);
+		};
+
+		index.reload();
+
+		assertEquals(3L, index.find("tower of god"));
+		assertEquals(1L, index.find("solo leveling"));
+	}
+
+	@Test
+	void reloadReplacesAnEarlierTable() {
+		FakeJdbcTemplate jdbc = new FakeJdbcTemplate();
+		jdbc.rows.add(new Row("solo leveling", 1L));
+		AliasIndex index = new AliasIndex(jdbc);
+		index.reload();
+		index.add("tower of god", 3L);
+
+		jdbc.rows.add(new Row("omniscient reader", 4L));
+		jdbc.duringLoad = () -> index.add("the boxer", 5L);
+		index.reload();
+
+		assertEquals(4L, index.find("omniscient reader"));
+		assertEquals(5L, index.find("the boxer"));
+		assertNull(index.find("tower of god"));
+	}
+
+	private record Row(String normalizedTitle, long manhwaId) {
+	}
+
+	// Streams `rows` to the load callback (running `duringLoad` halfway through) and answers
+	// fallback lookups from `fallbackIds`.
+	private static final class FakeJdbcTemplate extends JdbcTemplate {
+		private final List<Row> rows = new ArrayList<>();
+		private final List<Long> fallbackIds = new ArrayList<>();
+		private final List<Object> fallbackLookups = new ArrayList<>();
+		private Runnable duringLoad = () -> {
+		};
+
+		@Override
+		public void query(String sql, RowCallbackHandler handler) {
+			try {
+				for (int i = 0; i < rows.size(); i++) {
+					if (i == rows.size() / 2) {
+						duringLoad.run();
+					}
+					handler.processRow(resultSet(rows.get(i)));
+				}
+				if (rows.isEmpty()) {
+					duringLoad.run();
+				}
+			} catch (SQLException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+			fallbackLookups.add(args[0]);
+			return (List<T>) List.copyOf(fallbackIds);
+		}
+
+		private static ResultSet resultSet(Row row) {
+			return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+					(proxy, method, args) -> switch (method.getName() + ":" + args[0]) {
+						case "getString:normalized_title" -> row.normalizedTitle();
+						case "getLong:manhwa_id" -> row.manhwaId();
+						default -> throw new UnsupportedOperationException(method.getName() + " " + args[0]);
+					});
+		}
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.manhwa.tracker.webtoons.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenreFilterTest {
+
+	@Test
+	void toBitsSetsOneBitPerIdAcrossWords() {
+		long[] bits = GenreFilter.toBits(new int[]{1, 64, 130});
+
+		assertEquals(3, bits.length);
+		assertEquals(1L << 1, bits[0]);
+		assertEquals(1L, bits[1]);
+		assertEquals(1L << 2, bits[2]);
+		assertArrayEquals(new long[0], GenreFilter.toBits(new int[0]));
+	}
+
+	@Test
+	void parseBitsReadsCommaSeparatedIds() {
+		assertArrayEquals(GenreFilter.toBits(new int[]{3, 5, 70}), GenreFilter.parseBits("3, 5,,70"));
+		assertArrayEquals(new long[0], GenreFilter.parseBits(null));
+		assertArrayEquals(new long[0], GenreFilter.parseBits(" "));
+	}
+
+	@Test
+	void withoutIncludeAcceptsAnythingNotExcluded() {
+		GenreFilter filter = new GenreFilter(null, GenreFilter.toBits(new int[]{7}));
+
+		assertFalse(filter.hasInclude());
+		assertTrue(filter.accepts(GenreFilter.toBits(new int[]{1, 2})));
+		assertTrue(filter.accepts(new long[0]));
+		assertTrue(filter.accepts(null));
+		assertFalse(filter.accepts(GenreFilter.toBits(new int[]{2, 7})));
+	}
+
+	@Test
+	void includeNeedsOneMatchingGenreAndExclusionStillWins() {
+		GenreFilter filter = new GenreFilter(GenreFilter.toBits(new int[]{3, 65}), GenreFilter.toBits(new int[]{4}));
+
+		assertTrue(filter.accepts(GenreFilter.toBits(new int[]{65})));
+		assertTrue(filter.accepts(GenreFilter.toBits(new int[]{1, 3})));
+		assertFalse(filter.accepts(GenreFilter.toBits(new int[]{1, 2})));
+		assertFalse(filter.accepts(GenreFilter.toBits(new int[]{3, 4})));
+		assertFalse(filter.accepts(null));
+	}
+
+	@Test
+	void sqlArraysListIdsAndKeepAnEmptyIncludeFiltering() {
+		GenreFilter filter = new GenreFilter(GenreFilter.toBits(new int[]{130, 1, 64}), null);
+
+		assertEquals("{1,64,130}", filter.includeSqlArray());
+		assertEquals("{}", filter.excludeSqlArray());
+		assertEquals("{}", new GenreFilter(null, null).includeSqlArray());
+		assertEquals("{-1}", new GenreFilter(new long[0], null).includeSqlArray());
+	}
+
+}
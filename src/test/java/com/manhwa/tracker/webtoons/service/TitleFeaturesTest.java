@@ -0,0 +1,49 @@
+package com.manhwa.tracker.webtoons.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TitleFeaturesTest {
+	private static final TitleFeatures TARGET = TitleFeatures.of("Solo Leveling");
+
+	@Test
+	void exactMatchAfterNormalization() {
+		assertEquals("solo leveling", TARGET.normalized());
+		assertEquals(1000, TARGET.score(TitleFeatures.of("  Sólo  LEVELING!! ")));
+	}
+
+	@Test
+	void containmentScoresBelowExact() {
+		assertEquals(750, TARGET.score(TitleFeatures.of("Solo Leveling: Ragnarok")));
+		assertEquals(750, TitleFeatures.of("Solo Leveling: Ragnarok").score(TARGET));
+	}
+
+	@Test
+	void sameWordsInAnotherOrderScoreFullTokenOverlap() {
+		assertEquals(600, TARGET.score(TitleFeatures.of("Leveling Solo")));
+	}
+
+	@Test
+	void spellingVariantScoresThroughTrigrams() {
+		int score = TARGET.score(TitleFeatures.of("Solo Levelling"));
+
+		// Token overlap alone is 1/2 (300); a hit_title match (+220) must still clear min-score=700.
+		assertTrue(score > 480 && score < 600, "score=" + score);
+	}
+
+	@Test
+	void unrelatedTitleScoresLow() {
+		assertTrue(TARGET.score(TitleFeatures.of("Omniscient Reader")) < 150);
+	}
+
+	@Test
+	void blankTitlesNeverMatch() {
+		assertTrue(TitleFeatures.of(null).isEmpty());
+		assertTrue(TitleFeatures.of(" !! ").isEmpty());
+		assertEquals(0, TARGET.score(TitleFeatures.of("")));
+		assertEquals(0, TitleFeatures.of("").score(TARGET));
+	}
+
+}
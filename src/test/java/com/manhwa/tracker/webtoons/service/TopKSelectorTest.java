@@ -0,0 +1,89 @@
+package com.manhwa.tracker.webtoons.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TopKSelectorTest {
+
+	@Test
+	void keepsHighestScoresBestFirst() {
+		TopKSelector top = new TopKSelector(3);
+		double[] scores = {5, 1, 9, 3, 7};
+		for (int i = 0; i < scores.length; i++) {
+			top.offer(i, scores[i], 0);
+		}
+
+		assertEquals(3, top.size());
+		assertArrayEquals(new int[]{2, 4, 0}, top.drainDescending());
+		assertEquals(0, top.size());
+	}
+
+	@Test
+	void breaksScoreTiesByTieValue() {
+		TopKSelector top = new TopKSelector(2);
+		top.offer(0, 10, 1);
+		top.offer(1, 10, 3);
+		top.offer(2, 10, 2);
+
+		assertArrayEquals(new int[]{1, 2}, top.drainDescending());
+	}
+
+	@Test
+	void equalScoreAndTieDoesNotDisplaceAKeptEntry() {
+		TopKSelector top = new TopKSelector(1);
+		top.offer(0, 4, 4);
+		top.offer(1, 4, 4);
+
+		assertArrayEquals(new int[]{0}, top.drainDescending());
+	}
+
+	@Test
+	void returnsEverythingWhenFewerThanCapacity() {
+		TopKSelector top = new TopKSelector(5);
+		top.offer(0, 1, 0);
+		top.offer(1, 3, 0);
+
+		assertArrayEquals(new int[]{1, 0}, top.drainDescending());
+	}
+
+	@Test
+	void zeroCapacitySelectsNothing() {
+		TopKSelector top = new TopKSelector(0);
+		top.offer(0, 1, 0);
+
+		assertEquals(0, top.size());
+		assertArrayEquals(new int[0], top.drainDescending());
+	}
+
+	@Test
+	void matchesAFullSortOnRandomInput() {
+		Random random = new Random(42);
+		int n = 1_000;
+		int k = 25;
+		double[] scores = new double[n];
+		double[] ties = new double[n];
+		TopKSelector top = new TopKSelector(k);
+		for (int i = 0; i < n; i++) {
+			scores[i] = random.nextInt(50);
+			ties[i] = random.nextDouble();
+			top.offer(i, scores[i], ties[i]);
+		}
+
+		int[] expected = IntStream.range(0, n)
+				.boxed()
+				.sorted(Comparator.<Integer>comparingDouble(i -> scores[i])
+						.thenComparingDouble(i -> ties[i])
+						.reversed())
+				.limit(k)
+				.mapToInt(Integer::intValue)
+				.toArray();
+		assertArrayEquals(expected, top.drainDescending());
+	}
+
+}
@@ -1,5 +1,12 @@
 import { useEffect, useMemo, useState, type MouseEvent } from "react";
-import { downloadBinary, fetchBatchJobs, fetchSocialQueue, fetchTrending, startBatchJob, stopBatchJob } from "./api";
+import {
+  downloadBinary,
+  fetchBatchJobs,
+  fetchSocialQueue,
+  fetchTrendingBoards,
+  startBatchJob,
+  stopBatchJob
+} from "./api";
 import { BatchJob, MetricType, RankingMode, RankingWindow, SocialQueueItem, TrendingManhwa } from "./types";
 import defaultCover from "./assets/default-cover.svg";
 
@@ -334,7 +341,7 @@ export default function App() {
   const [activePanelId, setActivePanelId] = useState<TrendingPanel["id"]>("velocity");
   const [activeSourceId, setActiveSourceId] = useState<number>(1);
   const [activeWindow, setActiveWindow] = useState<RankingWindow>("DAILY");
-  const [items, setItems] = useState<TrendingManhwa[]>([]);
+  const [boards, setBoards] = useState<Record<string, TrendingManhwa[]>>({});
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [retrySeed, setRetrySeed] = useState(0);
@@ -479,10 +486,17 @@ export default function App() {
       return;
     }
 
-    const activePanel = visiblePanels.find((option) => option.id === activePanelId) ?? visiblePanels[0];
-    const metric = resolveMetricForPanel(activePanel, activeSourceId);
-    const genre = activePanel.genre;
-    const minPreviousValue = resolveMinPreviousForPanel(activePanel, activeSourceId);
+    // Every visible panel comes back from one batch request, so switching panels needs no refetch.
+    const specs = visiblePanels.map((panel) => ({
+      id: panel.id,
+      metric: resolveMetricForPanel(panel, activeSourceId),
+      sourceId: activeSourceId,
+      mode: panel.rankingMode,
+      window: activeWindow,
+      genre: panel.genre,
+      limit: 10,
+      minPreviousValue: resolveMinPreviousForPanel(panel, activeSourceId)
+    }));
     let cancelled = false;
 
     async function loadTrending(isSilent: boolean) {
@@ -492,18 +506,13 @@ export default function App() {
           setLoading(true);
         }
         setError(null);
-        const data = await fetchTrending(
-          metric,
-          10,
-          activeSourceId,
-          activePanel.rankingMode,
-          activeWindow,
-          genre,
-          minPreviousValue,
-          controller.signal
-        );
+        const data = await fetchTrendingBoards(specs, controller.signal);
         if (!cancelled) {
-          setItems(data);
+          const next: Record<string, TrendingManhwa[]> = {};
+          for (const board of data) {
+            next[board.id] = board.items;
+          }
+          setBoards(next);
           setLoading(false);
           setLastTrendingSync(new Date().toISOString());
         }
@@ -527,12 +536,13 @@ export default function App() {
       cancelled = true;
       window.clearInterval(intervalId);
     };
-  }, [activePanelId, activeSourceId, activeWindow, retrySeed, page, visiblePanels]);
+  }, [activeSourceId, activeWindow, retrySeed, page, visiblePanels]);
 
   const activePanel = useMemo(
     () => visiblePanels.find((option) => option.id === activePanelId) ?? visiblePanels[0] ?? trendingPanels[0],
     [activePanelId, visiblePanels]
   );
+  const items = useMemo(() => boards[activePanel.id] ?? [], [boards, activePanel]);
   const activeSource = useMemo(
     () => sourcePanels.find((option) => option.id === activeSourceId) ?? sourcePanels[0],
     [activeSourceId]
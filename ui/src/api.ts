@@ -5,6 +5,8 @@ import {
   RankingMode,
   RankingWindow,
   SocialQueueItem,
+  TrendingBoard,
+  TrendingBoardSpec,
   TrendingManhwa
 } from "./types";
 
@@ -48,6 +50,22 @@ export async function fetchTrending(
   return response.json();
 }
 
+export async function fetchTrendingBoards(
+  boards: TrendingBoardSpec[],
+  signal?: AbortSignal
+): Promise<TrendingBoard[]> {
+  const response = await fetch("/api/trending/batch", {
+    method: "POST",
+    headers: { "Content-Type": "application/json" },
+    body: JSON.stringify(boards),
+    signal
+  });
+  if (!response.ok) {
+    throw new Error(await parseApiError(response));
+  }
+  return response.json();
+}
+
 export async function fetchBatchJobs(signal?: AbortSignal): Promise<BatchJob[]> {
   const response = await fetch("/api/batches", { signal });
   if (!response.ok) {
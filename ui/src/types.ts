@@ -25,6 +25,27 @@ export type TrendingManhwa = {
   rankingMode: RankingMode;
 };
 
+export type TrendingBoardSpec = {
+  id: string;
+  metric: MetricType;
+  sourceId?: number;
+  mode: RankingMode;
+  window: RankingWindow;
+  genre?: string;
+  limit?: number;
+  minPreviousValue?: number;
+};
+
+export type TrendingBoard = {
+  id: string;
+  metric: MetricType;
+  sourceId: number | null;
+  mode: RankingMode;
+  window: RankingWindow;
+  genre: string | null;
+  items: TrendingManhwa[];
+};
+
 export type BatchJob = {
   jobName: string;
   label: string;